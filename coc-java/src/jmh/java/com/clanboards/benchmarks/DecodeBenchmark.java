@@ -0,0 +1,79 @@
+package com.clanboards.benchmarks;
+
+import com.clanboards.Clan;
+import com.clanboards.ClanMember;
+import com.clanboards.CocClient;
+import com.clanboards.RankedClan;
+import com.clanboards.wars.ClanWarLeagueGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response decoding for the endpoints whose payloads dominate allocation.
+ *
+ * Each client answers from memory with a fixture body. Response caching and request
+ * coalescing are disabled so every call decodes the body again; run with the gc
+ * profiler to compare allocation per operation across decoder changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+    @Param({"false", "true"})
+    public boolean rawAttribute;
+
+    private CocClient clanClient;
+    private CocClient membersClient;
+    private CocClient rankingsClient;
+    private CocClient leagueGroupClient;
+
+    @Setup
+    public void setup() {
+        clanClient = uncached(Fixtures.load("/clans/CLAN_FULL.json"));
+        membersClient = uncached(Fixtures.load("/clans/MEMBERS.json"));
+        rankingsClient = uncached(Fixtures.load("/locations/rankings/CLANS.json"));
+        leagueGroupClient = uncached(Fixtures.load("/clans/LEAGUEGROUP.json"));
+    }
+
+    private CocClient uncached(byte[] body) {
+        CocClient client = Fixtures.client(Fixtures.transport(body, null), rawAttribute);
+        client.setResponseCache(null);
+        client.setRequestCoalescing(false);
+        return client;
+    }
+
+    @Benchmark
+    public Clan clan() {
+        return clanClient.getClan("#2PP");
+    }
+
+    @Benchmark
+    public List<ClanMember> members() {
+        return membersClient.getMembers("#2PP", null, null, null);
+    }
+
+    @Benchmark
+    public List<RankedClan> clanRankings() {
+        return rankingsClient.getLocationClanRankings(32000006, null, null, null);
+    }
+
+    @Benchmark
+    public ClanWarLeagueGroup leagueGroup() {
+        return leagueGroupClient.getClanWarLeagueGroup("#2PP");
+    }
+}
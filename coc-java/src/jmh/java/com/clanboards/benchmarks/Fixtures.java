@@ -0,0 +1,68 @@
+package com.clanboards.benchmarks;
+
+import com.clanboards.CocClient;
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared setup for the benchmarks: JSON fixtures from {@code src/test/resources}
+ * and clients wired to an in-memory transport.
+ */
+final class Fixtures {
+    private Fixtures() {}
+
+    /**
+     * Loads a fixture from the test resources on the benchmark classpath.
+     *
+     * @param path resource path, e.g. "/clans/MEMBERS.json"
+     * @return fixture bytes
+     */
+    static byte[] load(String path) {
+        try (InputStream in = Fixtures.class.getResourceAsStream(path)) {
+            if (in == null) throw new IllegalStateException("Missing fixture " + path);
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Transport answering every request with the same body and no network I/O.
+     *
+     * @param body response body
+     * @param cacheControl Cache-Control header value, or null to send none
+     * @return in-memory transport
+     */
+    static HttpTransport transport(byte[] body, String cacheControl) {
+        HttpResponse resp = cacheControl == null
+                ? new HttpResponse(200, body)
+                : new HttpResponse(200, body, Map.of("cache-control", List.of(cacheControl)));
+        return request -> resp;
+    }
+
+    /**
+     * Creates a logged-in client whose throttling never delays a request.
+     *
+     * @param transport transport to use
+     * @param rawAttribute whether to attach raw JSON to decoded models
+     * @return client ready for lookups
+     */
+    static CocClient client(HttpTransport transport, boolean rawAttribute) {
+        Authenticator auth = new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of("bench");
+            }
+        };
+        CocClient client = new CocClient(transport, auth, rawAttribute);
+        client.loginWithTokens(List.of("bench"), Integer.MAX_VALUE);
+        return client;
+    }
+}
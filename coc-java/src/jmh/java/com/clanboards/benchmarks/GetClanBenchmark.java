@@ -0,0 +1,55 @@
+package com.clanboards.benchmarks;
+
+import com.clanboards.Clan;
+import com.clanboards.CocClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link CocClient#getClan(String)} against an in-memory transport.
+ *
+ * Covers tag correction, scheduling, transport dispatch and decoding with the
+ * client's default configuration. With {@code cacheable} set the fixture carries a
+ * max-age header, so after the first call lookups are served by the response cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetClanBenchmark {
+    @Param({"false", "true"})
+    public boolean cacheable;
+
+    private CocClient client;
+
+    @Setup
+    public void setup() {
+        byte[] body = Fixtures.load("/clans/CLAN_FULL.json");
+        client = Fixtures.client(Fixtures.transport(body, cacheable ? "max-age=600" : null), false);
+    }
+
+    @Benchmark
+    public Clan getClan() {
+        return client.getClan("#2PP");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Clan getClanContended() {
+        return client.getClan("#2PP");
+    }
+}
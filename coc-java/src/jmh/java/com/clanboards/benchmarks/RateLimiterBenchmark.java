@@ -0,0 +1,55 @@
+package com.clanboards.benchmarks;
+
+import com.clanboards.throttle.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of taking a permit from one shared limiter under increasing contention.
+ *
+ * The limiter is configured with a rate far above what the benchmark can reach, so
+ * the numbers reflect bookkeeping and contention rather than time spent throttled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private RateLimiter limiter;
+
+    @Setup
+    public void setup() {
+        limiter = new RateLimiter(Integer.MAX_VALUE, 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void acquire1() {
+        limiter.acquire();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void acquire8() {
+        limiter.acquire();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void acquire64() {
+        limiter.acquire();
+    }
+}
@@ -0,0 +1,48 @@
+package com.clanboards.benchmarks;
+
+import com.clanboards.util.TagUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tag normalisation and path encoding, called once or more per request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagUtilBenchmark {
+    /** Already-normalised input, user-typed input needing every fix-up, and a short tag. */
+    @Param({"#9UL2LJRJ", " 9ul2ljrjo ", "2pp"})
+    public String tag;
+
+    private String corrected;
+
+    @Setup
+    public void setup() {
+        corrected = TagUtil.correctTag(tag);
+    }
+
+    @Benchmark
+    public String correctTag() {
+        return TagUtil.correctTag(tag);
+    }
+
+    @Benchmark
+    public String encodeForPath() {
+        return TagUtil.encodeForPath(corrected);
+    }
+}
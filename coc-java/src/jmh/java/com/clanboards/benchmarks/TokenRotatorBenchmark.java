@@ -0,0 +1,50 @@
+package com.clanboards.benchmarks;
+
+import com.clanboards.token.TokenRotator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-robin token selection, shared by all request threads.
+ *
+ * CocClient selects tokens through {@link com.clanboards.token.TokenScheduler} now;
+ * see {@link TokenSchedulerBenchmark} for the request path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenRotatorBenchmark {
+    private TokenRotator rotator;
+
+    @Setup
+    public void setup() {
+        rotator = new TokenRotator(List.of("t1", "t2", "t3", "t4", "t5", "t6", "t7", "t8", "t9", "t10"));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String next1() {
+        return rotator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String next8() {
+        return rotator.next();
+    }
+}
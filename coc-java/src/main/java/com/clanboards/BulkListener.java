@@ -0,0 +1,30 @@
+package com.clanboards;
+
+/**
+ * Streaming callback for bulk lookups such as {@link CocClient#getPlayers(java.util.Collection, int, BulkListener)}.
+ *
+ * Exactly one of the two methods is invoked per distinct (corrected) tag. Callbacks
+ * arrive from the threads completing the underlying asynchronous requests, in no
+ * particular order and possibly concurrently, so implementations must be thread-safe
+ * and should return quickly.
+ *
+ * @param <T> result type of the individual lookup
+ * @see BulkResult
+ */
+public interface BulkListener<T> {
+    /**
+     * Called when the lookup for a tag succeeded.
+     *
+     * @param tag corrected tag (e.g., "#2PP")
+     * @param value decoded result for the tag
+     */
+    void onResult(String tag, T value);
+
+    /**
+     * Called when the lookup for a tag failed.
+     *
+     * @param tag corrected tag (e.g., "#2PP")
+     * @param error failure cause, e.g. {@link com.clanboards.exceptions.NotFoundException}
+     */
+    void onFailure(String tag, RuntimeException error);
+}
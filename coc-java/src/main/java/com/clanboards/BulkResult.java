@@ -0,0 +1,51 @@
+package com.clanboards;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome of a bulk lookup such as {@link CocClient#getPlayers(java.util.Collection, int)}.
+ *
+ * Results and failures are keyed by the corrected tag, so callers passing
+ * differently formatted variants of the same tag see a single entry.
+ *
+ * Thread-safety: Instances are fully populated before being returned and are safe
+ * to read from any thread.
+ *
+ * @param <T> result type of the individual lookup
+ * @see BulkListener
+ */
+public final class BulkResult<T> {
+    private final Map<String, T> results = new ConcurrentHashMap<>();
+    private final Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+
+    BulkResult() {}
+
+    BulkListener<T> collector() {
+        return new BulkListener<>() {
+            @Override
+            public void onResult(String tag, T value) { results.put(tag, value); }
+
+            @Override
+            public void onFailure(String tag, RuntimeException error) { failures.put(tag, error); }
+        };
+    }
+
+    /**
+     * Returns successfully decoded results keyed by corrected tag.
+     *
+     * @return unmodifiable view of successful lookups
+     */
+    public Map<String, T> getResults() { return Collections.unmodifiableMap(results); }
+
+    /**
+     * Returns per-tag failures keyed by corrected tag.
+     *
+     * Typical entries are {@link com.clanboards.exceptions.NotFoundException} for
+     * unknown tags or RuntimeException for HTTP errors.
+     *
+     * @return unmodifiable view of failed lookups
+     */
+    public Map<String, RuntimeException> getFailures() { return Collections.unmodifiableMap(failures); }
+}
@@ -32,7 +32,7 @@ public class ClanMember {
     private int builderBaseTrophies;
 
     @JsonIgnore
-    private transient JsonNode rawJson;
+    private transient RawJson rawJson; // parsed on first getRawJson()
 
     /**
      * Returns the member's unique player tag.
@@ -95,17 +95,18 @@ public class ClanMember {
      * @return raw JSON node or null if raw attachment is disabled
      * @see CocClient#isRawAttributeEnabled()
      */
-    public JsonNode getRawJson() { return rawJson; }
+    public JsonNode getRawJson() { return rawJson != null ? rawJson.node() : null; }
 
     /**
      * Attaches raw JSON data to this clan member instance.
      *
      * Package-private method used internally by CocClient when raw JSON
-     * attachment is enabled. Not intended for external use.
+     * attachment is enabled. Not intended for external use. The slice is
+     * only parsed when {@link #getRawJson()} is first called.
      *
-     * @param rawJson the raw JSON node from API response
+     * @param rawJson slice of the API response holding this object's JSON
      */
-    void attachRawJson(JsonNode rawJson) {
+    void attachRawJson(RawJson rawJson) {
         this.rawJson = rawJson;
     }
 }
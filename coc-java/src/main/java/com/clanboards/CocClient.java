@@ -1,21 +1,53 @@
 package com.clanboards;
 
 import com.clanboards.auth.Authenticator;
+import com.clanboards.cache.ResponseCache;
+import com.clanboards.exceptions.MaintenanceException;
 import com.clanboards.exceptions.NotFoundException;
 import com.clanboards.exceptions.PrivateWarLogException;
 import com.clanboards.http.HttpRequest;
 import com.clanboards.http.HttpResponse;
 import com.clanboards.http.HttpTransport;
-import com.clanboards.throttle.RateLimiter;
-import com.clanboards.token.TokenRotator;
+import com.clanboards.resilience.CircuitBreaker;
+import com.clanboards.resilience.HedgingPolicy;
+import com.clanboards.resilience.RetryPolicy;
+import com.clanboards.throttle.AdaptiveRateController;
+import com.clanboards.throttle.Priority;
+import com.clanboards.token.RequestDispatcher;
+import com.clanboards.token.Tenant;
+import com.clanboards.token.TokenScheduler;
+import com.clanboards.util.BulkExecutors;
+import com.clanboards.util.SingleFlight;
 import com.clanboards.util.TagUtil;
+import com.clanboards.util.XxHash64;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Primary client for interacting with the Clash of Clans API.
@@ -27,18 +59,60 @@ import java.util.Objects;
  * Thread-safety: This class is thread-safe after login completion. Multiple threads
  * can safely call API methods concurrently.
  *
+ * Most lookups also have a {@code ...Async} variant returning a {@link CompletableFuture}.
+ * These reserve rate limit capacity without parking the calling thread and dispatch
+ * through {@link HttpTransport#executeAsync(HttpRequest)}, so a single caller can keep
+ * many requests in flight.
+ *
+ * Successful GET responses are kept in a {@link ResponseCache} for as long as the API's
+ * {@code Cache-Control: max-age} allows. Reads of the same URL within that window are
+ * served from memory without spending rate limit budget. War endpoints, whose state
+ * changes in real time, always go to the network; other lookups can opt out per call.
+ *
+ * Concurrent lookups of the same URL are coalesced: while one request is outstanding,
+ * other callers asking for the same resource wait for it and receive the same decoded
+ * object instead of spending another permit. See {@link #setRequestCoalescing(boolean)}.
+ *
+ * Requests that have to wait for rate limit capacity queue by priority, so interactive
+ * lookups are not stuck behind a crawl, and within a priority tenants share capacity
+ * by weight. See {@link #withPriority(Priority)} and {@link #forTenant(String)}.
+ *
  * @see <a href="https://developer.clashofclans.com/">Clash of Clans API Documentation</a>
  * @since 0.1.0
  */
 public class CocClient {
+    /** Capacity of the response cache installed by default. */
+    public static final int DEFAULT_CACHE_ENTRIES = 1024;
+
     private final HttpTransport transport;
     private final Authenticator authenticator;
-    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectMapper mapper;
+    // Pre-built readers avoid a per-call deserializer lookup on the hot decode paths
+    private final ObjectReader clanReader;
+    private final ObjectReader memberReader;
+    private final ObjectReader rankedClanReader;
+    private final ObjectReader rankedPlayerReader;
+    private final ObjectReader cwlClanReader;
     private final String baseUrl;
     private final boolean rawAttribute;
 
-    private volatile TokenRotator tokenRotator;
-    private volatile RateLimiter rateLimiter; // total limit across tokens per window
+    // Views made by withPriority, forTenant and withTimeout share the root's state below
+    // and differ only in the lane and tenant their requests wait under and their timeout
+    private final CocClient root;
+    private final Priority priority;
+    private final Tenant tenant;
+    private final java.time.Duration timeout; // null: the transport's default
+
+    private volatile RequestDispatcher dispatcher; // priority lanes over per-token limits
+    private volatile double backgroundShare = RequestDispatcher.DEFAULT_BACKGROUND_SHARE;
+    private volatile ResponseCache responseCache = new ResponseCache(DEFAULT_CACHE_ENTRIES);
+    private volatile SingleFlight<String, Object> singleFlight = new SingleFlight<>(); // keyed by URL
+    private volatile RetryPolicy retryPolicy = RetryPolicy.NONE;
+    private volatile AdaptiveRateController rateController; // null: fixed per-token rate
+    private volatile CircuitBreaker circuitBreaker; // null: always send
+    private volatile HedgingPolicy hedgingPolicy; // null: war reads are not hedged
+    private final Map<String, PolledBody> polled; // body hash per polled URL
+    private final Map<String, Tenant> tenants;    // by name
 
     /**
      * Creates a client with default API base URL and raw JSON disabled.
@@ -54,6 +128,10 @@ public class CocClient {
     /**
      * Creates a client with default API base URL and configurable raw JSON support.
      *
+     * Raw JSON is retained as a slice of the response bytes and only parsed into a
+     * tree when a model's {@code getRawJson()} is first called, so enabling it costs
+     * little for objects whose raw data is never read.
+     *
      * @param transport HTTP transport implementation for making requests
      * @param authenticator authentication strategy for obtaining API tokens
      * @param rawAttribute whether to attach raw JSON data to response objects
@@ -89,6 +167,38 @@ public class CocClient {
         this.authenticator = Objects.requireNonNull(authenticator, "authenticator");
         this.baseUrl = Objects.requireNonNull(baseUrl, "baseUrl");
         this.rawAttribute = rawAttribute;
+        this.mapper = new ObjectMapper();
+        this.clanReader = mapper.readerFor(Clan.class);
+        this.memberReader = mapper.readerFor(ClanMember.class);
+        this.rankedClanReader = mapper.readerFor(RankedClan.class);
+        this.rankedPlayerReader = mapper.readerFor(RankedPlayer.class);
+        this.cwlClanReader = mapper.readerFor(com.clanboards.wars.CwlClan.class);
+        this.root = this;
+        this.priority = Priority.NORMAL;
+        this.tenant = Tenant.newBuilder("default").build();
+        this.timeout = null;
+        this.polled = new ConcurrentHashMap<>();
+        this.tenants = new ConcurrentHashMap<>();
+        tenants.put(tenant.getName(), tenant);
+    }
+
+    private CocClient(CocClient root, Priority priority, Tenant tenant, java.time.Duration timeout) {
+        this.transport = root.transport;
+        this.authenticator = root.authenticator;
+        this.baseUrl = root.baseUrl;
+        this.rawAttribute = root.rawAttribute;
+        this.mapper = root.mapper;
+        this.clanReader = root.clanReader;
+        this.memberReader = root.memberReader;
+        this.rankedClanReader = root.rankedClanReader;
+        this.rankedPlayerReader = root.rankedPlayerReader;
+        this.cwlClanReader = root.cwlClanReader;
+        this.root = root;
+        this.priority = priority;
+        this.tenant = tenant;
+        this.timeout = timeout;
+        this.polled = root.polled;
+        this.tenants = root.tenants;
     }
 
     /**
@@ -103,6 +213,292 @@ public class CocClient {
         return rawAttribute;
     }
 
+    /**
+     * Replaces the response cache.
+     *
+     * @param cache cache to use, or null to disable response caching entirely
+     */
+    public void setResponseCache(ResponseCache cache) {
+        root.responseCache = cache;
+    }
+
+    /**
+     * Returns the response cache, e.g. to inspect its hit and miss counters.
+     *
+     * @return current response cache, or null if caching is disabled
+     */
+    public ResponseCache getResponseCache() {
+        return root.responseCache;
+    }
+
+    /**
+     * Enables or disables coalescing of concurrent identical lookups (enabled by default).
+     *
+     * While enabled, callers that request a URL already being fetched share that request
+     * and receive the same decoded model instance, which they should treat as read-only.
+     *
+     * @param enabled true to share in-flight requests, false to always issue a new one
+     */
+    public void setRequestCoalescing(boolean enabled) {
+        root.singleFlight = enabled ? new SingleFlight<>() : null;
+    }
+
+    /**
+     * Returns whether concurrent identical lookups are coalesced.
+     *
+     * @return true if request coalescing is enabled
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return root.singleFlight != null;
+    }
+
+    /**
+     * Sets the policy deciding whether failed requests are retried (none by default).
+     *
+     * Each retry waits for a fresh rate-limit permit; the failed attempt's permit is
+     * released first, and a 429 still backs off the token that received it.
+     *
+     * @param policy retry policy, e.g. {@link com.clanboards.resilience.ExponentialBackoffRetryPolicy#withDefaults()}
+     * @throws NullPointerException if policy is null; use {@link RetryPolicy#NONE} to disable retries
+     */
+    public void setRetryPolicy(RetryPolicy policy) {
+        root.retryPolicy = Objects.requireNonNull(policy, "policy");
+    }
+
+    /**
+     * Returns the policy deciding whether failed requests are retried.
+     *
+     * @return current retry policy
+     */
+    public RetryPolicy getRetryPolicy() {
+        return root.retryPolicy;
+    }
+
+    /**
+     * Installs a circuit breaker that stops requests during outages.
+     *
+     * While the breaker is open every request fails fast with {@link MaintenanceException}
+     * without consuming a rate-limit permit. Register a
+     * {@link com.clanboards.events.MaintenanceListener} on the breaker to be told when
+     * maintenance starts and ends. Independently of the breaker, an HTTP 503 answer is
+     * always reported as {@link MaintenanceException}.
+     *
+     * @param breaker circuit breaker, or null to always send requests
+     */
+    public void setCircuitBreaker(CircuitBreaker breaker) {
+        root.circuitBreaker = breaker;
+    }
+
+    /**
+     * Returns the installed circuit breaker.
+     *
+     * @return circuit breaker, or null if none is installed
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return root.circuitBreaker;
+    }
+
+    /**
+     * Returns a view of this client whose requests wait in the given priority lane.
+     *
+     * The view shares everything with this client: tokens, rate limits, cache, policies
+     * and login state. Settings changed through either apply to both. When permits are
+     * scarce, {@link Priority#INTERACTIVE} requests are sent before queued normal and
+     * background ones, while background work keeps the share set by
+     * {@link #setBackgroundShare(double)}.
+     *
+     * <pre>{@code
+     * CocClient crawler = client.withPriority(Priority.BACKGROUND);
+     * CocClient commands = client.withPriority(Priority.INTERACTIVE);
+     * }</pre>
+     *
+     * @param priority lane for the view's requests
+     * @return client view with that priority and this client's tenant
+     */
+    public CocClient withPriority(Priority priority) {
+        Objects.requireNonNull(priority, "priority");
+        return priority == this.priority ? this : view(priority, tenant, timeout);
+    }
+
+    /**
+     * Returns a view of this client whose requests are made for the named tenant.
+     *
+     * Tenants waiting for rate limit capacity in the same priority lane take turns in
+     * proportion to their weight, so one busy tenant cannot starve the others. A tenant
+     * that is not yet known is created with weight 1 and no quota; use
+     * {@link #forTenant(Tenant)} to configure one. Like {@link #withPriority(Priority)}
+     * the view shares all other state with this client; requests coalesced with another
+     * tenant's identical in-flight request count only against the tenant that sent it.
+     *
+     * <pre>{@code
+     * client.forTenant(Tenant.newBuilder("guild-42").weight(2).quota(5).build());
+     * CocClient guild = client.forTenant("guild-42");
+     * long used = guild.getTenant().getGrantedCount();
+     * }</pre>
+     *
+     * @param name tenant name; the client itself belongs to the tenant {@code "default"}
+     * @return client view for that tenant with this client's priority
+     */
+    public CocClient forTenant(String name) {
+        Objects.requireNonNull(name, "name");
+        Tenant t = tenants.computeIfAbsent(name, n -> Tenant.newBuilder(n).build());
+        return t == tenant ? this : view(priority, t, timeout);
+    }
+
+    /**
+     * Registers a tenant under its name and returns a view whose requests are made for it.
+     *
+     * A tenant registered earlier under the same name is replaced; views already made
+     * for it keep using it.
+     *
+     * @param tenant tenant with its weight and quota
+     * @return client view for that tenant with this client's priority
+     * @see #forTenant(String)
+     */
+    public CocClient forTenant(Tenant tenant) {
+        Objects.requireNonNull(tenant, "tenant");
+        tenants.put(tenant.getName(), tenant);
+        return tenant == this.tenant ? this : view(priority, tenant, timeout);
+    }
+
+    /**
+     * Returns the tenant this client's requests are made for, e.g. to read its usage counters.
+     *
+     * @return tenant ({@code "default"} unless this is a tenant view)
+     */
+    public Tenant getTenant() {
+        return tenant;
+    }
+
+    /**
+     * Returns a view of this client whose requests time out after the given duration.
+     *
+     * The timeout is set on each request the view sends and overrides the transport's
+     * default, e.g. {@link com.clanboards.http.DefaultHttpTransport.Builder#requestTimeout}.
+     * A view answering a user command can give up early while a crawler on the same
+     * client keeps the default. Like {@link #withPriority(Priority)} the view shares all
+     * other state with this client; a request coalesced with an identical one already in
+     * flight keeps the timeout of the view that sent it.
+     *
+     * <pre>{@code
+     * CocClient commands = client.withPriority(Priority.INTERACTIVE).withTimeout(Duration.ofSeconds(3));
+     * }</pre>
+     *
+     * @param timeout time allowed until the response headers arrive, or null for the transport's default
+     * @return client view with that timeout and this client's priority and tenant
+     * @throws IllegalArgumentException if timeout is zero or negative
+     */
+    public CocClient withTimeout(java.time.Duration timeout) {
+        if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return Objects.equals(timeout, this.timeout) ? this : view(priority, tenant, timeout);
+    }
+
+    /**
+     * Returns the timeout set on this client's requests.
+     *
+     * @return request timeout, or null if the transport's default applies
+     */
+    public java.time.Duration getTimeout() {
+        return timeout;
+    }
+
+    private CocClient view(Priority priority, Tenant tenant, java.time.Duration timeout) {
+        return priority == Priority.NORMAL && tenant == root.tenant && timeout == null
+                ? root : new CocClient(root, priority, tenant, timeout);
+    }
+
+    /**
+     * Returns the lane this client's requests wait in.
+     *
+     * @return request priority ({@link Priority#NORMAL} unless this is a view)
+     */
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the share of permits guaranteed to background requests while higher lanes are busy.
+     *
+     * @param share fraction within [0, 1) (default {@link RequestDispatcher#DEFAULT_BACKGROUND_SHARE})
+     * @throws IllegalArgumentException if share is out of range
+     */
+    public void setBackgroundShare(double share) {
+        RequestDispatcher current = root.dispatcher;
+        if (current != null) current.setBackgroundShare(share);
+        else if (!(share >= 0 && share < 1)) throw new IllegalArgumentException("backgroundShare must be within [0, 1)");
+        root.backgroundShare = share;
+    }
+
+    /**
+     * Returns the share of permits guaranteed to background requests.
+     *
+     * @return fraction within [0, 1)
+     */
+    public double getBackgroundShare() {
+        return root.backgroundShare;
+    }
+
+    /**
+     * Enables hedged requests for {@link #getCurrentWar(String)} and {@link #getCwlWar(String)}
+     * and their asynchronous variants.
+     *
+     * If such a read has not answered after the policy's percentile-based delay, a duplicate
+     * is sent on another token, provided that token has a permit free immediately; the
+     * first answer is used and the other request is cancelled. Hedging needs at least two
+     * tokens and a transport whose {@code executeAsync} does not block.
+     *
+     * @param policy hedging policy, or null to disable hedging (default)
+     */
+    public void setHedgingPolicy(HedgingPolicy policy) {
+        root.hedgingPolicy = policy;
+    }
+
+    /**
+     * Returns the hedging policy for war reads.
+     *
+     * @return hedging policy, or null if hedging is disabled
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return root.hedgingPolicy;
+    }
+
+    /**
+     * Lets the per-token rate adapt to the API's responses instead of staying fixed.
+     *
+     * While a controller is installed it overrides the rate passed to {@code login},
+     * both now and on later logins, and is fed the status and latency of every response.
+     *
+     * @param controller rate controller, or null to keep the current rate fixed from now on
+     */
+    public void setAdaptiveRateControl(AdaptiveRateController controller) {
+        root.rateController = controller;
+        RequestDispatcher current = root.dispatcher;
+        if (controller != null && current != null) current.getScheduler().setPerTokenRate(controller.getRate());
+    }
+
+    /**
+     * Returns the installed adaptive rate controller.
+     *
+     * @return controller, or null if the rate is fixed
+     */
+    public AdaptiveRateController getAdaptiveRateControl() {
+        return root.rateController;
+    }
+
+    /**
+     * Returns the request rate currently allowed across all tokens.
+     *
+     * @return requests per second summed over all tokens, or 0 if not logged in
+     */
+    public double getEffectiveRate() {
+        RequestDispatcher current = root.dispatcher;
+        if (current == null) return 0.0;
+        TokenScheduler scheduler = current.getScheduler();
+        return scheduler.getPerTokenRate() * scheduler.getAll().size();
+    }
+
     /**
      * Authenticates with a single API token using default rate limiting.
      *
@@ -122,8 +518,8 @@ public class CocClient {
      * Authenticates with multiple API tokens and configures rate limiting.
      *
      * Uses the configured authenticator to obtain the specified number of tokens
-     * and sets up rate limiting based on per-token request rates. Total rate limit
-     * is calculated as tokenCount * perTokenRate.
+     * and sets up rate limiting based on per-token request rates. Each token is
+     * throttled to perTokenRate independently, for a total of tokenCount * perTokenRate.
      *
      * @param email developer account email
      * @param password developer account password
@@ -137,9 +533,7 @@ public class CocClient {
         if (tokens == null || tokens.isEmpty()) {
             throw new IllegalStateException("Authenticator returned no tokens");
         }
-        this.tokenRotator = new TokenRotator(tokens);
-        int totalRate = Math.max(1, tokens.size() * Math.max(1, perTokenRate));
-        this.rateLimiter = new RateLimiter(totalRate, 1000);
+        root.dispatcher = newDispatcher(tokens, perTokenRate);
     }
 
     /**
@@ -148,15 +542,24 @@ public class CocClient {
      * Bypasses the authentication process by using provided tokens directly.
      * Useful when tokens are obtained through external means or cached.
      *
+     * Every token gets its own budget of perTokenRate requests per second, and each
+     * request is sent on the token with the most remaining capacity. Tokens that
+     * receive HTTP 429 are backed off briefly so they do not hold up the others.
+     *
      * @param tokens list of valid API tokens (must not be null or empty)
      * @param perTokenRate requests per second per token (must be > 0)
      * @throws IllegalArgumentException if tokens is null or empty
      */
     public void loginWithTokens(List<String> tokens, int perTokenRate) {
         if (tokens == null || tokens.isEmpty()) throw new IllegalArgumentException("tokens empty");
-        this.tokenRotator = new TokenRotator(tokens);
-        int totalRate = Math.max(1, tokens.size() * Math.max(1, perTokenRate));
-        this.rateLimiter = new RateLimiter(totalRate, 1000);
+        root.dispatcher = newDispatcher(tokens, perTokenRate);
+    }
+
+    private RequestDispatcher newDispatcher(List<String> tokens, int perTokenRate) {
+        TokenScheduler scheduler = new TokenScheduler(tokens, Math.max(1, perTokenRate));
+        AdaptiveRateController controller = root.rateController;
+        if (controller != null) scheduler.setPerTokenRate(controller.getRate());
+        return new RequestDispatcher(scheduler, root.backgroundShare);
     }
 
     /**
@@ -172,24 +575,120 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public Clan getClan(String tag) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        return getClan(tag, true);
+    }
+
+    /**
+     * Retrieves a clan, optionally bypassing the response cache.
+     *
+     * @param tag clan tag (e.g., "#2PP", "2pp", "2PP")
+     * @param useCache false to always fetch from the API, ignoring any cached response
+     * @return clan information including name, level, member count
+     * @throws IllegalStateException if client is not logged in
+     * @throws NotFoundException if clan with the specified tag does not exist
+     * @throws RuntimeException if API request fails or response parsing fails
+     * @see #setResponseCache(ResponseCache)
+     */
+    public Clan getClan(String tag, boolean useCache) {
+        ensureLoggedIn();
 
         String corrected = TagUtil.correctTag(tag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        String url = baseUrl + "/clans/" + encoded;
+        return fetch(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected), useCache, resp -> readClan(resp, corrected));
+    }
 
-        // throttle globally across tokens
-        if (rateLimiter != null) rateLimiter.acquire();
+    /**
+     * Asynchronous variant of {@link #getClan(String)}.
+     *
+     * The request is scheduled against the rate limiter without blocking the
+     * calling thread and dispatched through {@link HttpTransport#executeAsync(HttpRequest)}.
+     * API errors complete the returned future exceptionally with the same exception
+     * types the blocking method throws.
+     *
+     * @param tag clan tag (e.g., "#2PP", "2pp", "2PP")
+     * @return future completing with the clan information
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<Clan> getClanAsync(String tag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(tag);
+        return fetchAsync(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected), true, resp -> readClan(resp, corrected));
+    }
 
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
+    /**
+     * Retrieves a clan with change detection, skipping the decode when nothing changed.
+     *
+     * The response body is hashed (XXH64) and compared with the body seen on the
+     * previous poll of the same clan. If they match, the previously decoded object is
+     * returned without parsing any JSON and the result reports no change. Intended for
+     * trackers that re-read the same clans repeatedly; regular {@link #getClan(String)}
+     * calls are unaffected.
+     *
+     * @param tag clan tag (e.g., "#2PP", "2pp", "2PP")
+     * @return current clan and whether it differs from the previous poll
+     * @throws IllegalStateException if client is not logged in
+     * @throws NotFoundException if clan with the specified tag does not exist
+     * @throws RuntimeException if API request fails or response parsing fails
+     * @see #clearPollState()
+     */
+    public PollResult<Clan> pollClan(String tag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(tag);
+        String url = baseUrl + "/clans/" + TagUtil.encodeForPath(corrected);
+        return fetch("poll " + url, url, true, resp -> readPolled(url, resp, r -> readClan(r, corrected)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #pollClan(String)}.
+     *
+     * @param tag clan tag (e.g., "#2PP", "2pp", "2PP")
+     * @return future completing with the clan and whether it changed
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<PollResult<Clan>> pollClanAsync(String tag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(tag);
+        String url = baseUrl + "/clans/" + TagUtil.encodeForPath(corrected);
+        return fetchAsync("poll " + url, url, true, resp -> readPolled(url, resp, r -> readClan(r, corrected)));
+    }
+
+    /**
+     * Forgets the body hashes and decoded objects retained for change detection, so
+     * the next poll of every resource reports a change.
+     *
+     * @see #pollClan(String)
+     * @see #pollPlayer(String)
+     * @see #forgetClanPollState(String)
+     * @see #forgetPlayerPollState(String)
+     */
+    public void clearPollState() {
+        root.polled.clear();
+    }
+
+    /**
+     * Forgets the state retained by {@link #pollClan(String)} for one clan, releasing
+     * its memory once the caller stops polling it. A poll still in flight stores it
+     * again when it completes. The next poll of the clan reports a change.
+     *
+     * @param tag clan tag (e.g., "#2PP", "2pp", "2PP")
+     * @see #clearPollState()
+     */
+    public void forgetClanPollState(String tag) {
+        root.polled.remove(baseUrl + "/clans/" + TagUtil.encodeForPath(TagUtil.correctTag(tag)));
+    }
 
-        HttpResponse resp = transport.execute(req);
+    /**
+     * Forgets the state retained by {@link #pollPlayer(String)} for one player,
+     * releasing its memory once the caller stops polling it. A poll still in flight
+     * stores it again when it completes. The next poll of the player reports a change.
+     *
+     * @param tag player tag (e.g., "#2PP", "2pp", "2PP")
+     * @see #clearPollState()
+     */
+    public void forgetPlayerPollState(String tag) {
+        root.polled.remove(baseUrl + "/players/" + TagUtil.encodeForPath(TagUtil.correctTag(tag)));
+    }
+
+    private Clan readClan(HttpResponse resp, String corrected) {
         int sc = resp.getStatusCode();
         if (sc == 404) {
             throw new NotFoundException("Clan not found: " + corrected);
@@ -199,12 +698,48 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling getClan: " + body);
         }
         try {
-            return decodeClan(resp.getBody());
+            return decodeClan(resp);
         } catch (IOException e) {
             throw new RuntimeException("Failed to parse clan JSON", e);
         }
     }
 
+    /**
+     * Fetches many clans concurrently and collects the outcome per tag.
+     *
+     * Tags are corrected with {@link TagUtil#correctTag(String)} and deduplicated before
+     * dispatch. At most {@code maxInFlight} requests are outstanding at any time; the
+     * rate limiter paces them so the configured total rate is used without idle gaps
+     * between sequential round-trips. The call returns once every tag has completed.
+     *
+     * @param tags clan tags in any supported format
+     * @param maxInFlight maximum number of concurrently outstanding requests (must be > 0)
+     * @return results and per-tag failures keyed by corrected tag
+     * @throws IllegalStateException if client is not logged in
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public BulkResult<Clan> getClans(java.util.Collection<String> tags, int maxInFlight) {
+        BulkResult<Clan> result = new BulkResult<>();
+        getClans(tags, maxInFlight, result.collector());
+        return result;
+    }
+
+    /**
+     * Streaming variant of {@link #getClans(java.util.Collection, int)}.
+     *
+     * Each outcome is handed to the listener as soon as it completes instead of being
+     * accumulated, which keeps memory flat for very large tag sets.
+     *
+     * @param tags clan tags in any supported format
+     * @param maxInFlight maximum number of concurrently outstanding requests (must be > 0)
+     * @param listener callback receiving each result or failure
+     * @throws IllegalStateException if client is not logged in
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public void getClans(java.util.Collection<String> tags, int maxInFlight, BulkListener<Clan> listener) {
+        fanOut(tags, maxInFlight, this::getClanAsync, listener);
+    }
+
     /**
      * Searches for clans matching the specified criteria.
      *
@@ -219,7 +754,7 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public java.util.List<Clan> searchClans(String name, Integer limit) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         if ((name == null || name.isBlank()) && (limit == null || limit <= 0)) {
             throw new IllegalArgumentException("At least one filter (e.g., name) must be provided");
         }
@@ -233,31 +768,14 @@ public class CocClient {
             url.append(sep).append("limit=").append(limit);
         }
 
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url.toString())
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url.toString());
         int sc = resp.getStatusCode();
         if (sc < 200 || sc >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + sc + " calling searchClans: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
-            var items = node.path("items");
-            java.util.List<Clan> result = new java.util.ArrayList<>();
-            if (items.isArray()) {
-                for (var it : items) {
-                    result.add(convert(it, Clan.class));
-                }
-            }
-            return result;
+            return new java.util.ArrayList<>(this.<Clan>readItems(resp, clanReader).getItems());
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse searchClans JSON", e);
         }
@@ -279,29 +797,73 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public java.util.List<ClanMember> getMembers(String clanTag, Integer limit, String after, String before) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
 
         String corrected = TagUtil.correctTag(clanTag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        StringBuilder url = new StringBuilder(baseUrl)
-                .append("/clans/")
-                .append(encoded)
-                .append("/members");
-        String sep = "?";
-        if (limit != null && limit > 0) { url.append(sep).append("limit=").append(limit); sep = "&"; }
-        if (after != null && !after.isBlank()) { url.append(sep).append("after=").append(encode(after)); sep = "&"; }
-        if (before != null && !before.isBlank()) { url.append(sep).append("before=").append(encode(before)); }
-
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url.toString())
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
+        return fetch(membersUrl(corrected, limit, after, before), true, resp -> new java.util.ArrayList<>(readMembers(resp, corrected).getItems()));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getMembers(String, Integer, String, String)}.
+     *
+     * @param clanTag clan tag to get members for
+     * @param limit maximum number of members to return (null for API default)
+     * @param after cursor for pagination (members after this cursor)
+     * @param before cursor for pagination (members before this cursor)
+     * @return future completing with the list of clan members
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<ClanMember>> getMembersAsync(String clanTag, Integer limit, String after, String before) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(clanTag);
+        return fetchAsync(membersUrl(corrected, limit, after, before), true, resp -> new java.util.ArrayList<>(readMembers(resp, corrected).getItems()));
+    }
 
-        HttpResponse resp = transport.execute(req);
+    /**
+     * Iterates over all members of a clan, following the API's paging cursors lazily.
+     *
+     * The first page is requested on the first call to {@code hasNext()}; each
+     * subsequent page is requested in the background as soon as the previous one starts
+     * being consumed.
+     *
+     * @param clanTag clan tag to get members for
+     * @param pageSize members requested per page (null for API default)
+     * @return iterator over every member; failures surface from {@code hasNext()}
+     * @throws IllegalStateException if client is not logged in
+     */
+    public java.util.Iterator<ClanMember> iterateMembers(String clanTag, Integer pageSize) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(clanTag);
+        return new PageIterator<>(cursor -> fetchAsync(membersUrl(corrected, pageSize, cursor, null), true,
+                resp -> readMembers(resp, corrected)));
+    }
+
+    /**
+     * Streams all members of a clan, following the API's paging cursors lazily.
+     *
+     * Pages are fetched only as the stream is consumed, with the next page prefetched
+     * while the current one is processed. Short-circuiting operations such as
+     * {@code findFirst} or {@code limit} stop paging; closing the stream cancels the
+     * outstanding prefetch.
+     *
+     * @param clanTag clan tag to get members for
+     * @param pageSize members requested per page (null for API default)
+     * @return sequential stream over every member
+     * @throws IllegalStateException if client is not logged in
+     * @see #iterateMembers(String, Integer)
+     */
+    public Stream<ClanMember> streamMembers(String clanTag, Integer pageSize) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(clanTag);
+        return streamOf(new PageIterator<>(cursor -> fetchAsync(membersUrl(corrected, pageSize, cursor, null), true,
+                resp -> readMembers(resp, corrected))));
+    }
+
+    private String membersUrl(String corrected, Integer limit, String after, String before) {
+        return buildUrlWithPaging(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/members", limit, after, before);
+    }
+
+    private Page<ClanMember> readMembers(HttpResponse resp, String corrected) {
         int sc = resp.getStatusCode();
         if (sc == 404) {
             throw new NotFoundException("Clan not found: " + corrected);
@@ -311,20 +873,601 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling getMembers: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
-            var items = node.path("items");
-            java.util.List<ClanMember> result = new java.util.ArrayList<>();
-            if (items.isArray()) {
-                for (var it : items) {
-                    result.add(convert(it, ClanMember.class));
-                }
-            }
-            return result;
+            return readItems(resp, memberReader);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse getMembers JSON", e);
         }
     }
 
+    private void ensureLoggedIn() {
+        if (root.dispatcher == null) throw new IllegalStateException("Client not logged in");
+    }
+
+    /**
+     * Runs a blocking call for every tag, each on its own thread, collecting the results.
+     *
+     * @param tags tags in any supported format
+     * @param maxInFlight maximum number of calls running at once (must be > 0)
+     * @param call blocking work for one corrected tag, e.g. {@code tag -> client.getPlayer(tag)}
+     * @param <T> result type
+     * @return results and per-tag failures keyed by corrected tag
+     * @throws IllegalStateException if client is not logged in
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     * @see #crawl(java.util.Collection, int, Function, BulkListener)
+     */
+    public <T> BulkResult<T> crawl(java.util.Collection<String> tags, int maxInFlight, Function<String, T> call) {
+        BulkResult<T> result = new BulkResult<>();
+        crawl(tags, maxInFlight, call, result.collector());
+        return result;
+    }
+
+    /**
+     * Runs a blocking call for every tag, each on its own thread.
+     *
+     * Unlike {@link #getClans(java.util.Collection, int, BulkListener)}, which chains
+     * asynchronous requests, the call may be any sequence of ordinary blocking client
+     * methods, such as fetching a clan and then each of its members. On Java 21 and
+     * later every call runs on a virtual thread, so {@code maxInFlight} can be set in
+     * the tens of thousands; the rate limiter, not the thread count, then decides the
+     * request rate. On Java 17 platform threads are used and {@code maxInFlight} should
+     * stay modest. See {@link BulkExecutors}.
+     *
+     * Tags are corrected and deduplicated first. The call returns once every tag has
+     * completed.
+     *
+     * @param tags tags in any supported format
+     * @param maxInFlight maximum number of calls running at once (must be > 0)
+     * @param call blocking work for one corrected tag
+     * @param listener callback receiving each result or failure, from the worker threads
+     * @param <T> result type
+     * @throws IllegalStateException if client is not logged in
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public <T> void crawl(java.util.Collection<String> tags, int maxInFlight, Function<String, T> call,
+                          BulkListener<T> listener) {
+        Objects.requireNonNull(call, "call");
+        java.util.Set<String> unique = bulkTags(tags, maxInFlight, listener);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        CountDownLatch remaining = new CountDownLatch(unique.size());
+        java.util.concurrent.ExecutorService workers = BulkExecutors.newPerTaskExecutor("coc-crawl");
+        try {
+            for (String tag : unique) {
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        T value;
+                        try {
+                            value = call.apply(tag);
+                        } catch (RuntimeException e) {
+                            listener.onFailure(tag, e);
+                            return;
+                        }
+                        listener.onResult(tag, value);
+                    } finally {
+                        inFlight.release();
+                        remaining.countDown();
+                    }
+                });
+            }
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during bulk lookup", e);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private java.util.Set<String> bulkTags(java.util.Collection<String> tags, int maxInFlight, BulkListener<?> listener) {
+        ensureLoggedIn();
+        Objects.requireNonNull(tags, "tags");
+        Objects.requireNonNull(listener, "listener");
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be > 0");
+
+        java.util.Set<String> unique = new java.util.LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) unique.add(TagUtil.correctTag(tag));
+        }
+        return unique;
+    }
+
+    private <T> void fanOut(java.util.Collection<String> tags, int maxInFlight,
+                            java.util.function.Function<String, CompletableFuture<T>> call, BulkListener<T> listener) {
+        java.util.Set<String> unique = bulkTags(tags, maxInFlight, listener);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        CountDownLatch remaining = new CountDownLatch(unique.size());
+        try {
+            for (String tag : unique) {
+                inFlight.acquire();
+                CompletableFuture<T> future;
+                try {
+                    future = call.apply(tag);
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete((value, error) -> {
+                    try {
+                        if (error == null) listener.onResult(tag, value);
+                        else listener.onFailure(tag, unwrap(error));
+                    } finally {
+                        inFlight.release();
+                        remaining.countDown();
+                    }
+                });
+            }
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during bulk lookup", e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+    }
+
+    private <T> T fetch(String url, boolean useCache, Function<HttpResponse, T> reader) {
+        return fetch(url, url, useCache, reader);
+    }
+
+    /**
+     * @param flightKey identity under which concurrent calls are coalesced; calls sharing
+     *        a key must produce the same result type
+     */
+    private <T> T fetch(String flightKey, String url, boolean useCache, Function<HttpResponse, T> reader) {
+        SingleFlight<String, Object> flights = root.singleFlight;
+        if (flights == null) return reader.apply(get(url, useCache));
+        @SuppressWarnings("unchecked")
+        T value = (T) flights.execute(laneKey(flightKey), () -> reader.apply(get(url, useCache)));
+        return value;
+    }
+
+    private <T> CompletableFuture<T> fetchAsync(String url, boolean useCache, Function<HttpResponse, T> reader) {
+        return fetchAsync(url, url, useCache, reader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> fetchAsync(String flightKey, String url, boolean useCache, Function<HttpResponse, T> reader) {
+        SingleFlight<String, Object> flights = root.singleFlight;
+        if (flights == null) return map(getAsync(url, useCache), reader);
+        CompletableFuture<Object> shared = flights.executeAsync(laneKey(flightKey), () -> map(getAsync(url, useCache), reader));
+        return (CompletableFuture<T>) (CompletableFuture<?>) shared;
+    }
+
+    /** Coalesces only within a lane, so a prioritized call never waits on a queued lower one. */
+    private String laneKey(String flightKey) {
+        return priority == Priority.NORMAL ? flightKey : priority.name() + ' ' + flightKey;
+    }
+
+    /**
+     * Uncached fetch that is hedged while a {@link HedgingPolicy} is installed.
+     */
+    private <T> T fetchHedged(String url, Function<HttpResponse, T> reader) {
+        if (root.hedgingPolicy == null) return fetch(url, false, reader);
+        try {
+            return fetchHedgedAsync(url, reader).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> fetchHedgedAsync(String url, Function<HttpResponse, T> reader) {
+        HedgingPolicy hedging = root.hedgingPolicy;
+        if (hedging == null) return fetchAsync(url, false, reader);
+        SingleFlight<String, Object> flights = root.singleFlight;
+        if (flights == null) return map(dispatchAsync(url, null, hedging), reader);
+        CompletableFuture<Object> shared = flights.executeAsync(laneKey(url), () -> map(dispatchAsync(url, null, hedging), reader));
+        return (CompletableFuture<T>) (CompletableFuture<?>) shared;
+    }
+
+    /**
+     * Decodes a polled response unless its body hashes the same as the last poll of
+     * {@code url}, in which case the previously decoded object is reused.
+     */
+    private <T> PollResult<T> readPolled(String url, HttpResponse resp, Function<HttpResponse, T> reader) {
+        int sc = resp.getStatusCode();
+        if (sc < 200 || sc >= 300) {
+            return new PollResult<>(reader.apply(resp), true); // reader raises the API error
+        }
+        long hash = XxHash64.hash(resp.getBody());
+        PolledBody previous = root.polled.get(url);
+        if (previous != null && previous.hash == hash) {
+            @SuppressWarnings("unchecked")
+            T value = (T) previous.value;
+            return new PollResult<>(value, false);
+        }
+        T value = reader.apply(resp);
+        root.polled.put(url, new PolledBody(hash, value));
+        return new PollResult<>(value, true);
+    }
+
+    private static final class PolledBody {
+        final long hash;
+        final Object value;
+
+        PolledBody(long hash, Object value) {
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    private HttpResponse get(String url) {
+        return get(url, true);
+    }
+
+    private HttpResponse get(String url, boolean useCache) {
+        ResponseCache cache = useCache ? root.responseCache : null;
+        if (cache == null) return send(HttpRequest.Method.GET, url, null, null);
+        HttpResponse cached = cache.get(url);
+        if (cached != null) return cached;
+        HttpResponse stale = cache.getForRevalidation(url);
+        return store(cache, url, stale, send(HttpRequest.Method.GET, url, null, stale));
+    }
+
+    /**
+     * Records a network response in the cache. A 304 answering a conditional request
+     * is replaced by the stored response it revalidated.
+     */
+    private static HttpResponse store(ResponseCache cache, String url, HttpResponse stale, HttpResponse resp) {
+        int sc = resp.getStatusCode();
+        if (sc == 304 && stale != null) {
+            HttpResponse revalidated = cache.revalidate(url, resp);
+            return revalidated != null ? revalidated : stale;
+        }
+        if (sc >= 200 && sc < 300) cache.put(url, resp);
+        return resp;
+    }
+
+    private HttpResponse send(HttpRequest.Method method, String url, byte[] body) {
+        return send(method, url, body, null);
+    }
+
+    private HttpResponse send(HttpRequest.Method method, String url, byte[] body, HttpResponse stale) {
+        RequestDispatcher lanes = root.dispatcher;
+        TokenScheduler scheduler = lanes.getScheduler();
+        RetryPolicy policy = root.retryPolicy;
+        policy.onRequest();
+        for (int retry = 1; ; retry++) {
+            admit(url);
+            // wait our turn in this view's lane, then take the least-loaded token
+            TokenScheduler.Reservation reservation = lanes.acquire(priority, tenant);
+            long start = System.nanoTime();
+            HttpResponse resp;
+            try {
+                resp = transport.execute(newRequest(method, url, body, reservation.getToken(), stale));
+            } catch (RuntimeException e) {
+                complete(scheduler, reservation, null, start);
+                long delay = policy.retryDelayNanos(retry, null, e);
+                if (delay < 0) throw e;
+                pause(delay);
+                continue;
+            }
+            complete(scheduler, reservation, resp, start);
+            long delay = isError(resp) ? policy.retryDelayNanos(retry, resp, null) : -1L;
+            if (delay < 0) return checkMaintenance(resp, url);
+            pause(delay);
+        }
+    }
+
+    /** Error statuses are offered to the retry policy; anything below 400 is final. */
+    private static boolean isError(HttpResponse resp) {
+        return resp.getStatusCode() >= 400;
+    }
+
+    private static void pause(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while backing off", new InterruptedException());
+            }
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #get(String)}: the rate limit permit is reserved
+     * up front and the request is dispatched once the reservation falls due, so no
+     * thread is parked while waiting for capacity.
+     */
+    private CompletableFuture<HttpResponse> getAsync(String url) {
+        return getAsync(url, true);
+    }
+
+    private CompletableFuture<HttpResponse> getAsync(String url, boolean useCache) {
+        ResponseCache cache = useCache ? root.responseCache : null;
+        if (cache == null) return dispatchAsync(url, null);
+        HttpResponse cached = cache.get(url);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+        HttpResponse stale = cache.getForRevalidation(url);
+        return map(dispatchAsync(url, stale), resp -> store(cache, url, stale, resp));
+    }
+
+    /** {@code thenApply} whose cancellation is passed back to the request it depends on. */
+    private static <T, R> CompletableFuture<R> map(CompletableFuture<T> future, Function<? super T, ? extends R> fn) {
+        CompletableFuture<R> mapped = future.thenApply(fn);
+        mapped.whenComplete((value, error) -> {
+            if (mapped.isCancelled()) future.cancel(true);
+        });
+        return mapped;
+    }
+
+    private CompletableFuture<HttpResponse> dispatchAsync(String url, HttpResponse stale) {
+        return dispatchAsync(url, stale, null);
+    }
+
+    private CompletableFuture<HttpResponse> dispatchAsync(String url, HttpResponse stale, HedgingPolicy hedging) {
+        RetryPolicy policy = root.retryPolicy;
+        policy.onRequest();
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<HttpResponse>> current = new AtomicReference<>();
+        result.whenComplete((resp, error) -> {
+            if (result.isCancelled()) cancel(current.get());
+        });
+        dispatchAsync(url, stale, policy, hedging, 1, result, current);
+        return result;
+    }
+
+    /**
+     * Sends one attempt and, if the policy asks for it, schedules the next one after the
+     * backoff instead of completing {@code result}. Each attempt reserves its own permit;
+     * cancelling {@code result} cancels the current attempt and stops retrying.
+     */
+    private void dispatchAsync(String url, HttpResponse stale, RetryPolicy policy, HedgingPolicy hedging, int retry,
+                               CompletableFuture<HttpResponse> result, AtomicReference<CompletableFuture<HttpResponse>> current) {
+        if (result.isDone()) return;
+        CompletableFuture<HttpResponse> attempt = hedging != null
+                ? hedgedAttemptAsync(url, stale, hedging) : attemptAsync(url, stale);
+        current.set(attempt);
+        if (result.isCancelled()) attempt.cancel(true);
+        attempt.whenComplete((resp, error) -> {
+            if (result.isDone()) return;
+            try {
+                long delay;
+                if (error != null) {
+                    delay = policy.retryDelayNanos(retry, null, unwrap(error));
+                } else {
+                    delay = isError(resp) ? policy.retryDelayNanos(retry, resp, null) : -1L;
+                }
+                if (delay < 0) {
+                    if (error != null) result.completeExceptionally(unwrap(error));
+                    else result.complete(checkMaintenance(resp, url));
+                    return;
+                }
+                CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS)
+                        .execute(() -> dispatchAsync(url, stale, policy, hedging, retry + 1, result, current));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private CompletableFuture<HttpResponse> attemptAsync(String url, HttpResponse stale) {
+        try {
+            admit(url);
+        } catch (MaintenanceException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        RequestDispatcher lanes = root.dispatcher;
+        return whenGranted(lanes, r -> sendAsync(url, stale, lanes.getScheduler(), r));
+    }
+
+    /**
+     * Waits in this view's lane and sends once a permit is granted. A permit granted from
+     * the dispatcher's queue is used on the async pool, so queued requests do not start
+     * one after another on its timer thread. Cancelling the result withdraws the request
+     * from its lane, or cancels the exchange once it was sent.
+     */
+    private CompletableFuture<HttpResponse> whenGranted(RequestDispatcher lanes,
+            Function<TokenScheduler.Reservation, CompletableFuture<HttpResponse>> send) {
+        CompletableFuture<TokenScheduler.Reservation> grant = lanes.reserve(priority, tenant);
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<HttpResponse>> sent = new AtomicReference<>();
+        BiConsumer<TokenScheduler.Reservation, Throwable> onGrant = (r, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            if (result.isDone()) { // cancelled while the permit was being granted
+                lanes.getScheduler().complete(r, 0);
+                return;
+            }
+            CompletableFuture<HttpResponse> f;
+            try {
+                f = send.apply(r);
+            } catch (RuntimeException e) {
+                lanes.getScheduler().complete(r, 0);
+                result.completeExceptionally(e);
+                return;
+            }
+            sent.set(f);
+            f.whenComplete((resp, e) -> {
+                if (e != null) result.completeExceptionally(e);
+                else result.complete(resp);
+            });
+            if (result.isCancelled()) f.cancel(true);
+        };
+        if (grant.isDone()) grant.whenComplete(onGrant);
+        else grant.whenCompleteAsync(onGrant);
+        result.whenComplete((resp, error) -> {
+            if (result.isCancelled()) {
+                grant.cancel(false);
+                cancel(sent.get());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sends one GET once its reservation falls due. Cancelling the returned future
+     * cancels the transport's exchange as well.
+     */
+    private CompletableFuture<HttpResponse> sendAsync(String url, HttpResponse stale, TokenScheduler scheduler,
+                                                      TokenScheduler.Reservation reservation) {
+        HttpRequest req = newRequest(HttpRequest.Method.GET, url, null, reservation.getToken(), stale);
+        long start = System.nanoTime() + reservation.getDelayNanos();
+        CompletableFuture<HttpResponse> future = reservation.getDelayNanos() <= 0
+                ? transport.executeAsync(req)
+                : CompletableFuture.supplyAsync(() -> req,
+                        CompletableFuture.delayedExecutor(reservation.getDelayNanos(), TimeUnit.NANOSECONDS))
+                        .thenCompose(transport::executeAsync);
+        CompletableFuture<HttpResponse> done = future.whenComplete((resp, error) -> complete(scheduler, reservation, resp, error, start));
+        done.whenComplete((resp, error) -> {
+            if (done.isCancelled()) future.cancel(true);
+        });
+        return done;
+    }
+
+    private CompletableFuture<HttpResponse> hedgedAttemptAsync(String url, HttpResponse stale, HedgingPolicy hedging) {
+        try {
+            admit(url);
+        } catch (MaintenanceException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        RequestDispatcher lanes = root.dispatcher;
+        return whenGranted(lanes, first -> hedgedSendAsync(url, stale, hedging, lanes, first));
+    }
+
+    /**
+     * Sends a GET and, if it is still outstanding after the policy's delay and another
+     * token has a spare permit within this view's tenant quota, a duplicate on that token. The first response wins and
+     * the other request is cancelled; the attempt fails only if every copy failed.
+     */
+    private CompletableFuture<HttpResponse> hedgedSendAsync(String url, HttpResponse stale, HedgingPolicy hedging,
+                                                            RequestDispatcher lanes, TokenScheduler.Reservation first) {
+        TokenScheduler scheduler = lanes.getScheduler();
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        AtomicBoolean decided = new AtomicBoolean();
+        CompletableFuture<HttpResponse> primary = sendAsync(url, stale, scheduler, first);
+        AtomicReference<CompletableFuture<HttpResponse>> hedge = new AtomicReference<>();
+        race(primary, result, decided, outstanding, hedging, System.nanoTime() + first.getDelayNanos(), () -> cancel(hedge.get()));
+        result.whenComplete((resp, error) -> {
+            if (result.isCancelled()) {
+                primary.cancel(true);
+                cancel(hedge.get());
+            }
+        });
+
+        long delay = first.getDelayNanos() + hedging.getDelayNanos();
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) return;
+            CircuitBreaker breaker = root.circuitBreaker;
+            if (breaker != null && breaker.getState() != CircuitBreaker.State.CLOSED) return;
+            TokenScheduler.Reservation spare = lanes.tryReserveSpare(tenant, first);
+            if (spare == null) return;
+            if (outstanding.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+                scheduler.complete(spare, 0); // every copy already failed
+                return;
+            }
+            hedging.onHedge();
+            CompletableFuture<HttpResponse> second = sendAsync(url, stale, scheduler, spare);
+            hedge.set(second);
+            race(second, result, decided, outstanding, hedging, System.nanoTime(), () -> {
+                hedging.onHedgeWin();
+                primary.cancel(true);
+            });
+            if (result.isDone()) second.cancel(true); // the primary won while the hedge was being sent
+        });
+        return result;
+    }
+
+    /** The first leg to succeed runs {@code onWin}, which cancels the other, and then completes the result. */
+    private static void race(CompletableFuture<HttpResponse> leg, CompletableFuture<HttpResponse> result, AtomicBoolean decided,
+                             AtomicInteger outstanding, HedgingPolicy hedging, long sentAt, Runnable onWin) {
+        leg.whenComplete((resp, error) -> {
+            if (error == null) {
+                hedging.record(resp.getElapsedNanos() >= 0 ? resp.getElapsedNanos() : System.nanoTime() - sentAt);
+                if (!result.isDone() && decided.compareAndSet(false, true)) {
+                    onWin.run();
+                    result.complete(resp);
+                }
+            } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+    }
+
+    private static void cancel(CompletableFuture<?> future) {
+        if (future != null) future.cancel(true);
+    }
+
+    private static boolean isCancellation(Throwable error) {
+        return error instanceof CancellationException
+                || (error instanceof CompletionException && error.getCause() instanceof CancellationException);
+    }
+
+    /** Fails fast while the circuit breaker is open, before any permit is taken. */
+    private void admit(String url) {
+        CircuitBreaker breaker = root.circuitBreaker;
+        if (breaker != null && !breaker.tryAcquire()) {
+            throw new MaintenanceException("API unavailable (circuit open), not sent: " + url);
+        }
+    }
+
+    private static HttpResponse checkMaintenance(HttpResponse resp, String url) {
+        if (resp.getStatusCode() == 503) throw new MaintenanceException("API in maintenance (HTTP 503): " + url);
+        return resp;
+    }
+
+    /**
+     * Releases a reservation and feeds the outcome to the circuit breaker and the
+     * adaptive rate controller, if any.
+     *
+     * @param resp response received, or null if the attempt failed
+     * @param startNanos when the request was sent, for transports that do not time themselves
+     */
+    private void complete(TokenScheduler scheduler, TokenScheduler.Reservation reservation, HttpResponse resp, long startNanos) {
+        complete(scheduler, reservation, resp, null, startNanos);
+    }
+
+    /**
+     * @param error failure of the attempt, if any; a cancelled attempt only releases its
+     *        reservation and says nothing about the API's health
+     */
+    private void complete(TokenScheduler scheduler, TokenScheduler.Reservation reservation, HttpResponse resp,
+                          Throwable error, long startNanos) {
+        int status = resp != null ? resp.getStatusCode() : 0;
+        scheduler.complete(reservation, status);
+        if (isCancellation(error)) return;
+        CircuitBreaker breaker = root.circuitBreaker;
+        if (breaker != null) {
+            if (status == 0 || status >= 500) breaker.onFailure();
+            else breaker.onSuccess();
+        }
+        AdaptiveRateController controller = root.rateController;
+        if (controller != null) {
+            long latency = resp != null && resp.getElapsedNanos() >= 0 ? resp.getElapsedNanos() : System.nanoTime() - startNanos;
+            if (controller.onResponse(status, latency)) scheduler.setPerTokenRate(controller.getRate());
+        }
+    }
+
+    /**
+     * @param stale cached response to revalidate; its validators become conditional
+     *        request headers (may be null)
+     */
+    private HttpRequest newRequest(HttpRequest.Method method, String url, byte[] body, String token, HttpResponse stale) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .method(method)
+                .url(url)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header("Authorization", "Bearer " + token);
+        if (body != null) {
+            builder.header("Content-Type", "application/json").body(body);
+        }
+        if (stale != null) {
+            String etag = stale.getHeader("ETag");
+            String lastModified = stale.getHeader("Last-Modified");
+            if (etag != null) builder.header("If-None-Match", etag);
+            if (lastModified != null) builder.header("If-Modified-Since", lastModified);
+        }
+        return builder.build();
+    }
+
     private static String encode(String s) {
         try {
             return java.net.URLEncoder.encode(s, java.nio.charset.StandardCharsets.UTF_8);
@@ -333,24 +1476,18 @@ public class CocClient {
         }
     }
 
-    private Clan decodeClan(byte[] body) throws IOException {
+    private Clan decodeClan(HttpResponse resp) throws IOException {
         if (!rawAttribute) {
-            return mapper.readValue(body, Clan.class);
+            return clanReader.readValue(resp.openBody());
         }
-        JsonNode node = mapper.readTree(body);
-        Clan clan = mapper.treeToValue(node, Clan.class);
-        attachRawJson(clan, node);
+        byte[] body = resp.getBody();
+        Clan clan = clanReader.readValue(body);
+        attachRawJson(clan, new RawJson(body, 0, body.length));
         return clan;
     }
 
-    private <T> T convert(JsonNode node, Class<T> type) {
-        T value = mapper.convertValue(node, type);
-        attachRawJson(value, node);
-        return value;
-    }
-
-    private void attachRawJson(Object value, JsonNode raw) {
-        if (!rawAttribute || value == null || raw == null || raw.isMissingNode()) {
+    private void attachRawJson(Object value, RawJson raw) {
+        if (!rawAttribute || value == null || raw == null) {
             return;
         }
         if (value instanceof Clan clan) {
@@ -376,31 +1513,116 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public Player getPlayer(String tag) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        return getPlayer(tag, true);
+    }
+
+    /**
+     * Retrieves a player, optionally bypassing the response cache.
+     *
+     * @param tag player tag (e.g., "#2PP", "2pp", "2PP")
+     * @param useCache false to always fetch from the API, ignoring any cached response
+     * @return player information and statistics
+     * @throws IllegalStateException if client is not logged in
+     * @throws NotFoundException if player with the specified tag does not exist
+     * @throws RuntimeException if API request fails or response parsing fails
+     * @see #setResponseCache(ResponseCache)
+     */
+    public Player getPlayer(String tag, boolean useCache) {
+        ensureLoggedIn();
         String corrected = TagUtil.correctTag(tag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        String url = baseUrl + "/players/" + encoded;
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        return fetch(baseUrl + "/players/" + TagUtil.encodeForPath(corrected), useCache, resp -> readPlayer(resp, corrected));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPlayer(String)}.
+     *
+     * @param tag player tag (e.g., "#2PP", "2pp", "2PP")
+     * @return future completing with the player information
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<Player> getPlayerAsync(String tag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(tag);
+        return fetchAsync(baseUrl + "/players/" + TagUtil.encodeForPath(corrected), true, resp -> readPlayer(resp, corrected));
+    }
+
+    /**
+     * Retrieves a player with change detection, skipping the decode when nothing changed.
+     *
+     * Works like {@link #pollClan(String)}: an unchanged response body yields the
+     * previously decoded player without parsing any JSON.
+     *
+     * @param tag player tag (e.g., "#2PP", "2pp", "2PP")
+     * @return current player and whether it differs from the previous poll
+     * @throws IllegalStateException if client is not logged in
+     * @throws NotFoundException if player with the specified tag does not exist
+     * @throws RuntimeException if API request fails or response parsing fails
+     */
+    public PollResult<Player> pollPlayer(String tag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(tag);
+        String url = baseUrl + "/players/" + TagUtil.encodeForPath(corrected);
+        return fetch("poll " + url, url, true, resp -> readPolled(url, resp, r -> readPlayer(r, corrected)));
+    }
+
+    /**
+     * Asynchronous variant of {@link #pollPlayer(String)}.
+     *
+     * @param tag player tag (e.g., "#2PP", "2pp", "2PP")
+     * @return future completing with the player and whether it changed
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<PollResult<Player>> pollPlayerAsync(String tag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(tag);
+        String url = baseUrl + "/players/" + TagUtil.encodeForPath(corrected);
+        return fetchAsync("poll " + url, url, true, resp -> readPolled(url, resp, r -> readPlayer(r, corrected)));
+    }
+
+    private Player readPlayer(HttpResponse resp, String corrected) {
         if (resp.getStatusCode() == 404) throw new NotFoundException("Player not found: " + corrected);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling getPlayer: " + body);
         }
         try {
-            return mapper.readValue(resp.getBody(), Player.class);
+            return mapper.readValue(resp.openBody(), Player.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse Player JSON", e);
         }
     }
 
+    /**
+     * Fetches many players concurrently and collects the outcome per tag.
+     *
+     * Behaves like {@link #getClans(java.util.Collection, int)}: tags are corrected and
+     * deduplicated, and at most {@code maxInFlight} requests are outstanding at once.
+     *
+     * @param tags player tags in any supported format
+     * @param maxInFlight maximum number of concurrently outstanding requests (must be > 0)
+     * @return results and per-tag failures keyed by corrected tag
+     * @throws IllegalStateException if client is not logged in
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public BulkResult<Player> getPlayers(java.util.Collection<String> tags, int maxInFlight) {
+        BulkResult<Player> result = new BulkResult<>();
+        getPlayers(tags, maxInFlight, result.collector());
+        return result;
+    }
+
+    /**
+     * Streaming variant of {@link #getPlayers(java.util.Collection, int)}.
+     *
+     * @param tags player tags in any supported format
+     * @param maxInFlight maximum number of concurrently outstanding requests (must be > 0)
+     * @param listener callback receiving each result or failure
+     * @throws IllegalStateException if client is not logged in
+     * @throws IllegalArgumentException if maxInFlight is not positive
+     */
+    public void getPlayers(java.util.Collection<String> tags, int maxInFlight, BulkListener<Player> listener) {
+        fanOut(tags, maxInFlight, this::getPlayerAsync, listener);
+    }
+
     /**
      * Verifies a player's API token for authentication purposes.
      *
@@ -415,29 +1637,19 @@ public class CocClient {
      * @throws RuntimeException if API request fails
      */
     public boolean verifyPlayerToken(String tag, String tokenToVerify) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String corrected = TagUtil.correctTag(tag);
         String encoded = TagUtil.encodeForPath(corrected);
         String url = baseUrl + "/players/" + encoded + "/verifytoken";
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
         byte[] body = writeJson(java.util.Map.of("token", tokenToVerify));
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.POST)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .header("Content-Type", "application/json")
-                .body(body)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = send(HttpRequest.Method.POST, url, body);
         if (resp.getStatusCode() == 404) throw new NotFoundException("Player not found: " + corrected);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String respBody = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling verifyPlayerToken: " + respBody);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             String status = node.path("status").asText("");
             return "ok".equalsIgnoreCase(status);
         } catch (Exception e) {
@@ -473,22 +1685,14 @@ public class CocClient {
         return getLabels("/labels/players");
     }
     private java.util.List<Label> getLabels(String path) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(baseUrl + path)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        ensureLoggedIn();
+        HttpResponse resp = get(baseUrl + path);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling " + path + ": " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             var items = node.path("items");
             java.util.List<Label> result = new java.util.ArrayList<>();
             if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, Label.class));
@@ -510,23 +1714,15 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public java.util.List<Location> searchLocations(Integer limit) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = baseUrl + "/locations" + (limit != null && limit > 0 ? ("?limit=" + limit) : "");
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling searchLocations: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             var items = node.path("items");
             java.util.List<Location> result = new java.util.ArrayList<>();
             if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, Location.class));
@@ -546,24 +1742,16 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public Location getLocation(int id) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = baseUrl + "/locations/" + id;
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() == 404) throw new NotFoundException("Location not found: " + id);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling getLocation: " + body);
         }
         try {
-            return mapper.readValue(resp.getBody(), Location.class);
+            return mapper.readValue(resp.openBody(), Location.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse location JSON", e);
         }
@@ -596,6 +1784,20 @@ public class CocClient {
         return getRankedClans("/locations/" + locationId + "/rankings/clans", limit, after, before);
     }
 
+    /**
+     * Asynchronous variant of {@link #getLocationClanRankings(int, Integer, String, String)}.
+     *
+     * @param locationId location identifier for rankings
+     * @param limit maximum number of entries to return
+     * @param after pagination cursor for results after this position
+     * @param before pagination cursor for results before this position
+     * @return future completing with the ranking entries
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<RankedClan>> getLocationClanRankingsAsync(int locationId, Integer limit, String after, String before) {
+        return getRankedClansAsync("/locations/" + locationId + "/rankings/clans", limit, after, before);
+    }
+
     /**
      * Retrieves builder base clan rankings for a specific location.
      *
@@ -615,6 +1817,20 @@ public class CocClient {
         return getRankedClans("/locations/" + locationId + "/rankings/clans-builder-base", limit, after, before);
     }
 
+    /**
+     * Asynchronous variant of {@link #getLocationBuilderBaseClanRankings(int, Integer, String, String)}.
+     *
+     * @param locationId location identifier for rankings
+     * @param limit maximum number of entries to return
+     * @param after pagination cursor for results after this position
+     * @param before pagination cursor for results before this position
+     * @return future completing with the ranking entries
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<RankedClan>> getLocationBuilderBaseClanRankingsAsync(int locationId, Integer limit, String after, String before) {
+        return getRankedClansAsync("/locations/" + locationId + "/rankings/clans-builder-base", limit, after, before);
+    }
+
     /**
      * Retrieves clan capital rankings for a specific location.
      *
@@ -634,6 +1850,20 @@ public class CocClient {
         return getRankedClans("/locations/" + locationId + "/rankings/capitals", limit, after, before);
     }
 
+    /**
+     * Asynchronous variant of {@link #getLocationCapitalClanRankings(int, Integer, String, String)}.
+     *
+     * @param locationId location identifier for rankings
+     * @param limit maximum number of entries to return
+     * @param after pagination cursor for results after this position
+     * @param before pagination cursor for results before this position
+     * @return future completing with the ranking entries
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<RankedClan>> getLocationCapitalClanRankingsAsync(int locationId, Integer limit, String after, String before) {
+        return getRankedClansAsync("/locations/" + locationId + "/rankings/capitals", limit, after, before);
+    }
+
     /**
      * Retrieves player rankings for a specific location (main village).
      *
@@ -653,6 +1883,20 @@ public class CocClient {
         return getRankedPlayers("/locations/" + locationId + "/rankings/players", limit, after, before);
     }
 
+    /**
+     * Asynchronous variant of {@link #getLocationPlayerRankings(int, Integer, String, String)}.
+     *
+     * @param locationId location identifier for rankings
+     * @param limit maximum number of entries to return
+     * @param after pagination cursor for results after this position
+     * @param before pagination cursor for results before this position
+     * @return future completing with the ranking entries
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<RankedPlayer>> getLocationPlayerRankingsAsync(int locationId, Integer limit, String after, String before) {
+        return getRankedPlayersAsync("/locations/" + locationId + "/rankings/players", limit, after, before);
+    }
+
     /**
      * Retrieves builder base player rankings for a specific location.
      *
@@ -672,18 +1916,99 @@ public class CocClient {
         return getRankedPlayers("/locations/" + locationId + "/rankings/players-builder-base", limit, after, before);
     }
 
+    /**
+     * Asynchronous variant of {@link #getLocationBuilderBasePlayerRankings(int, Integer, String, String)}.
+     *
+     * @param locationId location identifier for rankings
+     * @param limit maximum number of entries to return
+     * @param after pagination cursor for results after this position
+     * @param before pagination cursor for results before this position
+     * @return future completing with the ranking entries
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<RankedPlayer>> getLocationBuilderBasePlayerRankingsAsync(int locationId, Integer limit, String after, String before) {
+        return getRankedPlayersAsync("/locations/" + locationId + "/rankings/players-builder-base", limit, after, before);
+    }
+
+    /**
+     * Iterates over a location's full clan ranking, following paging cursors lazily.
+     *
+     * @param locationId location identifier for rankings
+     * @param pageSize entries requested per page (null for API default)
+     * @return iterator over every ranking entry; failures surface from {@code hasNext()}
+     * @throws IllegalStateException if client is not logged in
+     * @see #streamLocationClanRankings(int, Integer)
+     */
+    public java.util.Iterator<RankedClan> iterateLocationClanRankings(int locationId, Integer pageSize) {
+        return rankedClanPages("/locations/" + locationId + "/rankings/clans", pageSize);
+    }
+
+    /**
+     * Streams a location's full clan ranking, following paging cursors lazily.
+     *
+     * The next page is prefetched while the current one is consumed, and
+     * short-circuiting operations stop paging early.
+     *
+     * @param locationId location identifier for rankings
+     * @param pageSize entries requested per page (null for API default)
+     * @return sequential stream over every ranking entry
+     * @throws IllegalStateException if client is not logged in
+     */
+    public Stream<RankedClan> streamLocationClanRankings(int locationId, Integer pageSize) {
+        return streamOf(rankedClanPages("/locations/" + locationId + "/rankings/clans", pageSize));
+    }
+
+    /**
+     * Iterates over a location's full player ranking, following paging cursors lazily.
+     *
+     * @param locationId location identifier for rankings
+     * @param pageSize entries requested per page (null for API default)
+     * @return iterator over every ranking entry; failures surface from {@code hasNext()}
+     * @throws IllegalStateException if client is not logged in
+     * @see #streamLocationPlayerRankings(int, Integer)
+     */
+    public java.util.Iterator<RankedPlayer> iterateLocationPlayerRankings(int locationId, Integer pageSize) {
+        return rankedPlayerPages("/locations/" + locationId + "/rankings/players", pageSize);
+    }
+
+    /**
+     * Streams a location's full player ranking, following paging cursors lazily.
+     *
+     * The next page is prefetched while the current one is consumed, and
+     * short-circuiting operations stop paging early.
+     *
+     * @param locationId location identifier for rankings
+     * @param pageSize entries requested per page (null for API default)
+     * @return sequential stream over every ranking entry
+     * @throws IllegalStateException if client is not logged in
+     */
+    public Stream<RankedPlayer> streamLocationPlayerRankings(int locationId, Integer pageSize) {
+        return streamOf(rankedPlayerPages("/locations/" + locationId + "/rankings/players", pageSize));
+    }
+
+    private PageIterator<RankedClan> rankedClanPages(String path, Integer pageSize) {
+        ensureLoggedIn();
+        return new PageIterator<>(cursor -> fetchAsync(buildUrlWithPaging(baseUrl + path, pageSize, cursor, null), true,
+                this::readRankedClans));
+    }
+
+    private PageIterator<RankedPlayer> rankedPlayerPages(String path, Integer pageSize) {
+        ensureLoggedIn();
+        return new PageIterator<>(cursor -> fetchAsync(buildUrlWithPaging(baseUrl + path, pageSize, cursor, null), true,
+                this::readRankedPlayers));
+    }
+
     private java.util.List<RankedClan> getRankedClans(String path, Integer limit, String after, String before) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
-        String url = buildUrlWithPaging(baseUrl + path, limit, after, before);
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        ensureLoggedIn();
+        return fetch(buildUrlWithPaging(baseUrl + path, limit, after, before), true, resp -> new java.util.ArrayList<>(readRankedClans(resp).getItems()));
+    }
+
+    private CompletableFuture<java.util.List<RankedClan>> getRankedClansAsync(String path, Integer limit, String after, String before) {
+        ensureLoggedIn();
+        return fetchAsync(buildUrlWithPaging(baseUrl + path, limit, after, before), true, resp -> new java.util.ArrayList<>(readRankedClans(resp).getItems()));
+    }
+
+    private Page<RankedClan> readRankedClans(HttpResponse resp) {
         int sc = resp.getStatusCode();
         if (sc == 404) throw new NotFoundException("Location or resource not found");
         if (sc < 200 || sc >= 300) {
@@ -691,26 +2016,21 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling rankings: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
-            var items = node.path("items");
-            java.util.List<RankedClan> result = new java.util.ArrayList<>();
-            if (items.isArray()) for (var it : items) result.add(convert(it, RankedClan.class));
-            return result;
+            return readItems(resp, rankedClanReader);
         } catch (Exception e) { throw new RuntimeException("Failed to parse ranked clans JSON", e); }
     }
 
     private java.util.List<RankedPlayer> getRankedPlayers(String path, Integer limit, String after, String before) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
-        String url = buildUrlWithPaging(baseUrl + path, limit, after, before);
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        ensureLoggedIn();
+        return fetch(buildUrlWithPaging(baseUrl + path, limit, after, before), true, resp -> new java.util.ArrayList<>(readRankedPlayers(resp).getItems()));
+    }
+
+    private CompletableFuture<java.util.List<RankedPlayer>> getRankedPlayersAsync(String path, Integer limit, String after, String before) {
+        ensureLoggedIn();
+        return fetchAsync(buildUrlWithPaging(baseUrl + path, limit, after, before), true, resp -> new java.util.ArrayList<>(readRankedPlayers(resp).getItems()));
+    }
+
+    private Page<RankedPlayer> readRankedPlayers(HttpResponse resp) {
         int sc = resp.getStatusCode();
         if (sc == 404) throw new NotFoundException("Location or resource not found");
         if (sc < 200 || sc >= 300) {
@@ -718,14 +2038,62 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling rankings: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
-            var items = node.path("items");
-            java.util.List<RankedPlayer> result = new java.util.ArrayList<>();
-            if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, RankedPlayer.class));
-            return result;
+            return readItems(resp, rankedPlayerReader);
         } catch (Exception e) { throw new RuntimeException("Failed to parse ranked players JSON", e); }
     }
 
+    /**
+     * Decodes a list response token by token, binding each element of {@code items}
+     * directly into the model type instead of building a tree for the whole document.
+     * With raw JSON enabled each element keeps a slice of the body, parsed on demand;
+     * otherwise the parser reads the body as a stream, so a compressed response is never
+     * inflated into an intermediate array.
+     */
+    private <T> Page<T> readItems(HttpResponse resp, ObjectReader reader) throws IOException {
+        java.util.List<T> items = new java.util.ArrayList<>();
+        String after = null;
+        String before = null;
+        byte[] body = rawAttribute ? resp.getBody() : null;
+        try (JsonParser p = body != null ? mapper.getFactory().createParser(body) : mapper.getFactory().createParser(resp.openBody())) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected JSON object but found " + p.currentToken());
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (p.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(readElement(p, reader, body));
+                    }
+                } else if ("paging".equals(field) && value == JsonToken.START_OBJECT) {
+                    JsonNode paging = mapper.readTree(p);
+                    JsonNode cursors = paging.path("cursors");
+                    after = cursors.hasNonNull("after") ? cursors.get("after").asText() : null;
+                    before = cursors.hasNonNull("before") ? cursors.get("before").asText() : null;
+                } else {
+                    p.skipChildren();
+                }
+            }
+        }
+        return new Page<>(items, after, before);
+    }
+
+    private <T> T readElement(JsonParser p, ObjectReader reader, byte[] body) throws IOException {
+        if (!rawAttribute) {
+            return reader.readValue(p);
+        }
+        int start = (int) p.currentTokenLocation().getByteOffset();
+        T value = reader.readValue(p);
+        int end = (int) p.currentTokenLocation().getByteOffset() + 1; // just past END_OBJECT
+        attachRawJson(value, new RawJson(body, start, end - start));
+        return value;
+    }
+
+    private static <T> Stream<T> streamOf(PageIterator<T> pages) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
     private static String buildUrlWithPaging(String base, Integer limit, String after, String before) {
         StringBuilder sb = new StringBuilder(base);
         String sep = base.contains("?") ? "&" : "?";
@@ -846,23 +2214,15 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public java.util.List<SeasonRef> getLeagueSeasons(int leagueId, Integer limit, String after, String before) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = buildUrlWithPaging(baseUrl + "/leagues/" + leagueId + "/seasons", limit, after, before);
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling getLeagueSeasons: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             var items = node.path("items");
             java.util.List<SeasonRef> result = new java.util.ArrayList<>();
             if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, SeasonRef.class));
@@ -886,23 +2246,15 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public java.util.List<RankedPlayer> getLeagueSeasonInfo(int leagueId, String seasonId, Integer limit, String after, String before) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = buildUrlWithPaging(baseUrl + "/leagues/" + leagueId + "/seasons/" + encode(seasonId), limit, after, before);
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling getLeagueSeasonInfo: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             var items = node.path("items");
             java.util.List<RankedPlayer> result = new java.util.ArrayList<>();
             if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, RankedPlayer.class));
@@ -911,23 +2263,15 @@ public class CocClient {
     }
 
     private java.util.List<League> getLeagues(String path, Integer limit) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = buildUrlWithPaging(baseUrl + path, limit, null, null);
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling " + path + ": " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             var items = node.path("items");
             java.util.List<League> result = new java.util.ArrayList<>();
             if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, League.class));
@@ -936,23 +2280,15 @@ public class CocClient {
     }
 
     private League getLeagueByPath(String path) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = baseUrl + path;
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() == 404) throw new NotFoundException("League not found");
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling " + path + ": " + body);
         }
-        try { return mapper.readValue(resp.getBody(), League.class);} catch (Exception e) { throw new RuntimeException(e);}        
+        try { return mapper.readValue(resp.openBody(), League.class);} catch (Exception e) { throw new RuntimeException(e);}        
     }
 
     /**
@@ -966,22 +2302,14 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public GoldPassSeason getCurrentGoldPassSeason() {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String url = baseUrl + "/goldpass/seasons/current";
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        HttpResponse resp = get(url);
         if (resp.getStatusCode() < 200 || resp.getStatusCode() >= 300) {
             String body = new String(resp.getBody(), java.nio.charset.StandardCharsets.UTF_8);
             throw new RuntimeException("HTTP " + resp.getStatusCode() + " calling getCurrentGoldPassSeason: " + body);
         }
-        try { return mapper.readValue(resp.getBody(), GoldPassSeason.class);} catch (Exception e) { throw new RuntimeException(e);}        
+        try { return mapper.readValue(resp.openBody(), GoldPassSeason.class);} catch (Exception e) { throw new RuntimeException(e);}        
     }
 
     /**
@@ -999,19 +2327,26 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public java.util.List<com.clanboards.wars.ClanWarLogEntry> getWarLog(String clanTag, Integer limit) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String corrected = TagUtil.correctTag(clanTag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        String url = baseUrl + "/clans/" + encoded + "/warlog" + (limit != null && limit > 0 ? ("?limit=" + limit) : "");
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        return fetch(buildUrlWithPaging(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/warlog", limit, null, null), true, resp -> readWarLog(resp, corrected));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getWarLog(String, Integer)}.
+     *
+     * @param clanTag clan tag to get war log for
+     * @param limit maximum number of war log entries to return
+     * @return future completing with the war log entries
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<java.util.List<com.clanboards.wars.ClanWarLogEntry>> getWarLogAsync(String clanTag, Integer limit) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(clanTag);
+        return fetchAsync(buildUrlWithPaging(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/warlog", limit, null, null), true, resp -> readWarLog(resp, corrected));
+    }
+
+    private java.util.List<com.clanboards.wars.ClanWarLogEntry> readWarLog(HttpResponse resp, String corrected) {
         int sc = resp.getStatusCode();
         if (sc == 403) throw new PrivateWarLogException("Clan war log is private: " + corrected);
         if (sc == 404) throw new NotFoundException("Clan not found: " + corrected);
@@ -1020,7 +2355,7 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling getWarLog: " + body);
         }
         try {
-            var node = mapper.readTree(resp.getBody());
+            var node = mapper.readTree(resp.openBody());
             var items = node.path("items");
             java.util.List<com.clanboards.wars.ClanWarLogEntry> result = new java.util.ArrayList<>();
             if (items.isArray()) for (var it : items) result.add(mapper.convertValue(it, com.clanboards.wars.ClanWarLogEntry.class));
@@ -1044,19 +2379,25 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public com.clanboards.wars.ClanWar getCurrentWar(String clanTag) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String corrected = TagUtil.correctTag(clanTag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        String url = baseUrl + "/clans/" + encoded + "/currentwar";
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        return fetchHedged(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/currentwar", resp -> readCurrentWar(resp, corrected));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCurrentWar(String)}.
+     *
+     * @param clanTag clan tag to get current war for
+     * @return future completing with the current war information
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<com.clanboards.wars.ClanWar> getCurrentWarAsync(String clanTag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(clanTag);
+        return fetchHedgedAsync(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/currentwar", resp -> readCurrentWar(resp, corrected));
+    }
+
+    private com.clanboards.wars.ClanWar readCurrentWar(HttpResponse resp, String corrected) {
         int sc = resp.getStatusCode();
         if (sc == 403) throw new PrivateWarLogException("Clan war log is private: " + corrected);
         if (sc == 404) throw new NotFoundException("Clan not found or no current war: " + corrected);
@@ -1065,7 +2406,7 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling getCurrentWar: " + body);
         }
         try {
-            return mapper.readValue(resp.getBody(), com.clanboards.wars.ClanWar.class);
+            return mapper.readValue(resp.openBody(), com.clanboards.wars.ClanWar.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse current war JSON", e);
         }
@@ -1085,19 +2426,25 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public com.clanboards.wars.ClanWarLeagueGroup getClanWarLeagueGroup(String clanTag) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String corrected = TagUtil.correctTag(clanTag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        String url = baseUrl + "/clans/" + encoded + "/currentwar/leaguegroup";
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        return fetch(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/currentwar/leaguegroup", false, resp -> readClanWarLeagueGroup(resp, corrected));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getClanWarLeagueGroup(String)}.
+     *
+     * @param clanTag clan tag to get CWL group information for
+     * @return future completing with the CWL group
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<com.clanboards.wars.ClanWarLeagueGroup> getClanWarLeagueGroupAsync(String clanTag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(clanTag);
+        return fetchAsync(baseUrl + "/clans/" + TagUtil.encodeForPath(corrected) + "/currentwar/leaguegroup", false, resp -> readClanWarLeagueGroup(resp, corrected));
+    }
+
+    private com.clanboards.wars.ClanWarLeagueGroup readClanWarLeagueGroup(HttpResponse resp, String corrected) {
         int sc = resp.getStatusCode();
         if (sc == 403) throw new PrivateWarLogException("Clan war league group is private: " + corrected);
         if (sc == 404) throw new NotFoundException("Clan not found: " + corrected);
@@ -1107,29 +2454,35 @@ public class CocClient {
         }
         try {
             // The API returns rounds as array of objects with warTags; we transform to List<List<String>> with filtering
-            var root = mapper.readTree(resp.getBody());
             var group = new com.clanboards.wars.ClanWarLeagueGroup();
-            if (root.hasNonNull("state")) group.setState(root.get("state").asText());
-            if (root.hasNonNull("season")) group.setSeason(root.get("season").asText());
-            var roundsNode = root.path("rounds");
             java.util.List<java.util.List<String>> rounds = new java.util.ArrayList<>();
-            if (roundsNode.isArray()) {
-                for (var r : roundsNode) {
-                    var warTagsNode = r.path("warTags");
-                    java.util.List<String> warTags = new java.util.ArrayList<>();
-                    if (warTagsNode.isArray()) {
-                        for (var wt : warTagsNode) warTags.add(wt.asText());
+            java.util.List<com.clanboards.wars.CwlClan> clans = new java.util.ArrayList<>();
+            try (JsonParser p = mapper.getFactory().createParser(resp.openBody())) {
+                if (p.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected JSON object but found " + p.currentToken());
+                }
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    JsonToken value = p.nextToken();
+                    if ("state".equals(field) && value != JsonToken.VALUE_NULL) {
+                        group.setState(p.getValueAsString());
+                    } else if ("season".equals(field) && value != JsonToken.VALUE_NULL) {
+                        group.setSeason(p.getValueAsString());
+                    } else if ("rounds".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            rounds.add(readWarTags(p));
+                        }
+                    } else if ("clans".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            clans.add(cwlClanReader.readValue(p));
+                        }
+                    } else {
+                        p.skipChildren();
                     }
-                    rounds.add(warTags);
                 }
             }
             group.setNumberOfRounds(rounds.size());
             group.setRounds(rounds); // filters out #0
-            var clansNode = root.path("clans");
-            java.util.List<com.clanboards.wars.CwlClan> clans = new java.util.ArrayList<>();
-            if (clansNode.isArray()) {
-                for (var c : clansNode) clans.add(mapper.convertValue(c, com.clanboards.wars.CwlClan.class));
-            }
             group.setClans(clans);
             return group;
         } catch (Exception e) {
@@ -1137,6 +2490,28 @@ public class CocClient {
         }
     }
 
+    /** Reads the {@code warTags} of one round object; the parser is left on its END_OBJECT. */
+    private static java.util.List<String> readWarTags(JsonParser p) throws IOException {
+        java.util.List<String> warTags = new java.util.ArrayList<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            if (p.nextToken() == JsonToken.START_ARRAY && "warTags".equals(field)) {
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    // same text as JsonNode.asText(): "null" for null, "" for nested containers
+                    if (p.currentToken().isStructStart()) {
+                        p.skipChildren();
+                        warTags.add("");
+                    } else {
+                        warTags.add(p.getText());
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+        return warTags;
+    }
+
     /**
      * Retrieves detailed information about a specific clan war league war.
      *
@@ -1151,19 +2526,25 @@ public class CocClient {
      * @throws RuntimeException if API request fails or response parsing fails
      */
     public com.clanboards.wars.ClanWar getCwlWar(String warTag) {
-        if (tokenRotator == null) throw new IllegalStateException("Client not logged in");
+        ensureLoggedIn();
         String corrected = TagUtil.correctTag(warTag);
-        String encoded = TagUtil.encodeForPath(corrected);
-        String url = baseUrl + "/clanwarleagues/wars/" + encoded;
-        if (rateLimiter != null) rateLimiter.acquire();
-        String token = tokenRotator.next();
-        HttpRequest req = HttpRequest.newBuilder()
-                .method(HttpRequest.Method.GET)
-                .url(url)
-                .header("Accept", "application/json")
-                .header("Authorization", "Bearer " + token)
-                .build();
-        HttpResponse resp = transport.execute(req);
+        return fetchHedged(baseUrl + "/clanwarleagues/wars/" + TagUtil.encodeForPath(corrected), resp -> readCwlWar(resp, corrected));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCwlWar(String)}.
+     *
+     * @param warTag war tag identifier from CWL group rounds
+     * @return future completing with the CWL war information
+     * @throws IllegalStateException if client is not logged in
+     */
+    public CompletableFuture<com.clanboards.wars.ClanWar> getCwlWarAsync(String warTag) {
+        ensureLoggedIn();
+        String corrected = TagUtil.correctTag(warTag);
+        return fetchHedgedAsync(baseUrl + "/clanwarleagues/wars/" + TagUtil.encodeForPath(corrected), resp -> readCwlWar(resp, corrected));
+    }
+
+    private com.clanboards.wars.ClanWar readCwlWar(HttpResponse resp, String corrected) {
         int sc = resp.getStatusCode();
         if (sc == 403) throw new PrivateWarLogException("League war is private or forbidden: " + corrected);
         if (sc == 404) throw new NotFoundException("League war not found: " + corrected);
@@ -1172,7 +2553,7 @@ public class CocClient {
             throw new RuntimeException("HTTP " + sc + " calling getCwlWar: " + body);
         }
         try {
-            return mapper.readValue(resp.getBody(), com.clanboards.wars.ClanWar.class);
+            return mapper.readValue(resp.openBody(), com.clanboards.wars.ClanWar.class);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse CWL war JSON", e);
         }
@@ -1186,5 +2567,8 @@ public class CocClient {
      *
      * @return first API token or null if not logged in
      */
-    public String getToken() { return tokenRotator != null ? tokenRotator.getAll().get(0) : null; }
+    public String getToken() {
+        RequestDispatcher current = root.dispatcher;
+        return current != null ? current.getScheduler().getAll().get(0) : null;
+    }
 }
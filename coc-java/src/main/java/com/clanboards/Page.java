@@ -0,0 +1,55 @@
+package com.clanboards;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated API listing.
+ *
+ * List endpoints return their entries under {@code items} together with opaque
+ * {@code paging.cursors}. Passing {@link #getNextCursor()} as the {@code after}
+ * argument of the same call retrieves the following page.
+ *
+ * Thread-safety: Instances are immutable and safe to share between threads.
+ *
+ * @param <T> entry type
+ * @see CocClient#streamMembers(String, Integer)
+ */
+public final class Page<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final String previousCursor;
+
+    Page(List<T> items, String nextCursor, String previousCursor) {
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+    }
+
+    /**
+     * Returns the entries on this page.
+     *
+     * @return immutable list of entries (possibly empty)
+     */
+    public List<T> getItems() { return items; }
+
+    /**
+     * Returns the cursor for the page after this one.
+     *
+     * @return {@code after} cursor, or null if this is the last page
+     */
+    public String getNextCursor() { return nextCursor; }
+
+    /**
+     * Returns the cursor for the page before this one.
+     *
+     * @return {@code before} cursor, or null if this is the first page
+     */
+    public String getPreviousCursor() { return previousCursor; }
+
+    /**
+     * Returns whether another page follows this one.
+     *
+     * @return true if {@link #getNextCursor()} is present
+     */
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,79 @@
+package com.clanboards;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Iterator walking a cursor-paginated listing one page at a time.
+ *
+ * The first page is requested on the first call to {@link #hasNext()}. Whenever a page
+ * is taken for consumption the request for the following page is started immediately,
+ * so network time overlaps with processing of the current page. Pages beyond that are
+ * only requested once the caller actually advances into them; {@link #close()} cancels
+ * the outstanding prefetch for callers that stop early, withdrawing it from the rate
+ * limiter's queue or aborting the exchange unless another caller shares the request.
+ *
+ * Thread-safety: Not thread-safe; intended for use by a single consumer.
+ *
+ * @param <T> entry type
+ */
+final class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private final Function<String, CompletableFuture<Page<T>>> fetcher;
+    private CompletableFuture<Page<T>> pending;
+    private boolean started;
+    private Iterator<T> current = java.util.Collections.emptyIterator();
+
+    /**
+     * @param fetcher requests the page after the given cursor (null for the first page)
+     */
+    PageIterator(Function<String, CompletableFuture<Page<T>>> fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            pending = fetcher.apply(null);
+        }
+        while (!current.hasNext()) {
+            if (pending == null) return false;
+            Page<T> page = await(pending);
+            pending = page.hasNext() ? fetcher.apply(page.getNextCursor()) : null;
+            current = page.getItems().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.next();
+    }
+
+    /**
+     * Stops iteration and cancels the prefetch of the next page, if any.
+     */
+    @Override
+    public void close() {
+        started = true;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        current = java.util.Collections.emptyIterator();
+    }
+
+    private Page<T> await(CompletableFuture<Page<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            pending = null;
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+        }
+    }
+}
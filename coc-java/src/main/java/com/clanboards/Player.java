@@ -19,6 +19,7 @@ public class Player {
     private String tag;
     private String name;
     private int townHallLevel;
+    private int trophies;
 
     /**
      * Returns the player's unique identifier tag.
@@ -50,5 +51,10 @@ public class Player {
      * @return town hall level (1-16+)
      */
     public int getTownHallLevel() { return townHallLevel; }
+    /**
+     * Returns the player's current home village trophy count.
+     *
+     * @return current trophies
+     */
+    public int getTrophies() { return trophies; }
 }
-
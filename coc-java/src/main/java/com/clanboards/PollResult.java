@@ -0,0 +1,38 @@
+package com.clanboards;
+
+/**
+ * Result of a change-detecting lookup such as {@link CocClient#pollClan(String)}.
+ *
+ * When the response body is byte-identical to the previous poll of the same resource,
+ * the previously decoded object is returned as is and {@link #isChanged()} is false;
+ * no JSON is parsed in that case.
+ *
+ * Thread-safety: Instances are immutable and safe to share between threads.
+ *
+ * @param <T> decoded model type
+ */
+public final class PollResult<T> {
+    private final T value;
+    private final boolean changed;
+
+    PollResult(T value, boolean changed) {
+        this.value = value;
+        this.changed = changed;
+    }
+
+    /**
+     * Returns the decoded resource.
+     *
+     * @return current value; the same instance as last time when unchanged
+     */
+    public T getValue() { return value; }
+
+    /**
+     * Returns whether the response differed from the previous poll.
+     *
+     * The first poll of a resource always reports a change.
+     *
+     * @return true if the body changed and was decoded afresh
+     */
+    public boolean isChanged() { return changed; }
+}
@@ -39,7 +39,7 @@ public class RankedClan {
     private int previousRank;
 
     @JsonIgnore
-    private transient JsonNode rawJson;
+    private transient RawJson rawJson; // parsed on first getRawJson()
 
     /**
      * Returns the clan's unique identifier tag.
@@ -126,17 +126,18 @@ public class RankedClan {
      * @return raw JSON node or null if raw attachment is disabled
      * @see CocClient#isRawAttributeEnabled()
      */
-    public JsonNode getRawJson() { return rawJson; }
+    public JsonNode getRawJson() { return rawJson != null ? rawJson.node() : null; }
 
     /**
      * Attaches raw JSON data to this ranked clan instance.
      *
      * Package-private method used internally by CocClient when raw JSON
-     * attachment is enabled. Not intended for external use.
+     * attachment is enabled. Not intended for external use. The slice is
+     * only parsed when {@link #getRawJson()} is first called.
      *
-     * @param rawJson the raw JSON node from API response
+     * @param rawJson slice of the API response holding this object's JSON
      */
-    void attachRawJson(JsonNode rawJson) {
+    void attachRawJson(RawJson rawJson) {
         this.rawJson = rawJson;
     }
 }
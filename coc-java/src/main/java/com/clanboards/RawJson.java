@@ -0,0 +1,54 @@
+package com.clanboards;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * Raw JSON of a model object, kept as a slice of the original response bytes.
+ *
+ * Parsing into a {@link JsonNode} is deferred until {@link #node()} is first called,
+ * after which the tree is retained and the byte reference is dropped. Objects decoded
+ * from the same response share one byte array, so holding raw JSON for a whole page
+ * of members costs the page body once rather than one tree per member.
+ *
+ * Thread-safety: This class is thread-safe; the tree is parsed at most once.
+ */
+final class RawJson {
+    private static final ObjectReader TREE_READER = new ObjectMapper().reader();
+
+    private byte[] source;
+    private final int offset;
+    private final int length;
+    private volatile JsonNode node;
+
+    RawJson(byte[] source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the parsed tree, parsing the byte slice on first use.
+     *
+     * @return raw JSON node
+     * @throws RuntimeException if the slice is not valid JSON
+     */
+    JsonNode node() {
+        JsonNode n = node;
+        if (n != null) return n;
+        synchronized (this) {
+            if (node == null) {
+                try {
+                    node = TREE_READER.readTree(source, offset, length);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to parse raw JSON", e);
+                }
+                source = null;
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.clanboards.cache;
+
+import com.clanboards.http.HttpResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory cache of API responses honouring {@code Cache-Control: max-age}.
+ *
+ * Every Clash of Clans API response carries a max-age telling how long the data stays
+ * unchanged on the server. Responses are stored by request URL until that age has
+ * passed; responses marked no-store are never stored. When the cache grows beyond its
+ * capacity the oldest insertions are evicted first.
+ *
+ * Responses carrying an {@code ETag} or {@code Last-Modified} validator are kept after
+ * they expire (or even when they were never fresh, e.g. no-cache) so that the next
+ * request can be made conditional. A {@code 304 Not Modified} answer then renews the
+ * stored response via {@link #revalidate(String, HttpResponse)} instead of transferring
+ * the body again.
+ *
+ * Hit, miss, revalidation and eviction counters are kept so callers can judge effectiveness.
+ *
+ * Thread-safety: This class is thread-safe and designed for concurrent use.
+ *
+ * @see com.clanboards.CocClient#setResponseCache(ResponseCache)
+ */
+public final class ResponseCache {
+    private final int maxEntries;
+    // Insertion-ordered, one node per URL; a re-put or renewal moves the URL to the end.
+    // Guarded by itself.
+    private final Map<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+
+    /**
+     * Creates a cache holding at most {@code maxEntries} responses.
+     *
+     * @param maxEntries maximum number of cached responses (must be > 0)
+     * @throws IllegalArgumentException if maxEntries is not positive
+     */
+    public ResponseCache(int maxEntries) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("maxEntries must be > 0");
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= ResponseCache.this.maxEntries) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns a fresh cached response for the URL, counting a hit or a miss.
+     *
+     * @param url full request URL
+     * @return cached response, or null if absent or expired
+     */
+    public HttpResponse get(String url) {
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(url);
+            if (e != null && e.expiresAtNanos - System.nanoTime() <= 0 && !hasValidator(e.response)) {
+                entries.remove(url);
+            }
+        }
+        if (e != null && e.expiresAtNanos - System.nanoTime() > 0) {
+            hits.increment();
+            return e.response;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns a stored response that can be revalidated with a conditional request,
+     * whether or not it is still fresh. Counters are not affected.
+     *
+     * @param url full request URL
+     * @return stored response carrying an ETag or Last-Modified header, or null
+     */
+    public HttpResponse getForRevalidation(String url) {
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(url);
+        }
+        return e != null && hasValidator(e.response) ? e.response : null;
+    }
+
+    /**
+     * Renews a stored response after the server answered {@code 304 Not Modified}.
+     *
+     * The stored body is kept; its freshness is restarted from the max-age of the
+     * 304 response, which describes the unchanged resource.
+     *
+     * @param url full request URL
+     * @param notModified the 304 response
+     * @return the stored response now considered current, or null if it was evicted meanwhile
+     */
+    public HttpResponse revalidate(String url, HttpResponse notModified) {
+        long maxAgeSeconds = Math.max(0L, parseMaxAge(notModified.getHeader("Cache-Control")));
+        long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+        Entry e;
+        synchronized (entries) {
+            e = entries.remove(url);
+            if (e == null) return null;
+            entries.put(url, new Entry(e.response, expiresAt)); // renewed: now the newest
+        }
+        revalidations.increment();
+        return e.response;
+    }
+
+    /**
+     * Stores a response if its {@code Cache-Control} header allows it.
+     *
+     * Responses with a positive max-age are stored; responses without one are stored
+     * only if they carry a validator for later revalidation.
+     *
+     * @param url full request URL
+     * @param response response to store
+     * @return true if the response was cached
+     */
+    public boolean put(String url, HttpResponse response) {
+        long maxAgeSeconds = parseMaxAge(response.getHeader("Cache-Control"));
+        if (maxAgeSeconds < 0 || (maxAgeSeconds == 0 && !hasValidator(response))) return false;
+        Entry e = new Entry(response, System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAgeSeconds));
+        synchronized (entries) {
+            entries.remove(url); // a re-put counts as the newest insertion
+            entries.put(url, e);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all cached responses. Counters are left untouched.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of responses currently held, including expired ones not yet purged.
+     *
+     * @return current entry count
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns how many lookups were served from the cache.
+     *
+     * @return hit count since creation
+     */
+    public long getHitCount() { return hits.sum(); }
+
+    /**
+     * Returns how many lookups found no fresh entry.
+     *
+     * @return miss count since creation
+     */
+    public long getMissCount() { return misses.sum(); }
+
+    /**
+     * Returns how many entries were dropped to stay within capacity.
+     *
+     * @return eviction count since creation
+     */
+    public long getEvictionCount() { return evictions.sum(); }
+
+    /**
+     * Returns how many stored responses were renewed by a 304 answer.
+     *
+     * @return revalidation count since creation
+     */
+    public long getRevalidationCount() { return revalidations.sum(); }
+
+    /**
+     * Extracts the max-age directive from a Cache-Control header value.
+     *
+     * @param cacheControl header value such as "public max-age=600" (may be null)
+     * @return max-age in seconds; 0 if absent, malformed or no-cache; -1 if no-store
+     */
+    static long parseMaxAge(String cacheControl) {
+        if (cacheControl == null) return 0;
+        long maxAge = 0;
+        boolean noCache = false;
+        for (String part : cacheControl.split("[,\\s]+")) {
+            if (part.equalsIgnoreCase("no-store")) return -1;
+            if (part.equalsIgnoreCase("no-cache")) noCache = true;
+            if (part.regionMatches(true, 0, "max-age=", 0, 8)) {
+                try {
+                    maxAge = Math.max(0L, Long.parseLong(part.substring(8).trim()));
+                } catch (NumberFormatException e) {
+                    maxAge = 0;
+                }
+            }
+        }
+        return noCache ? 0 : maxAge;
+    }
+
+    private static boolean hasValidator(HttpResponse response) {
+        return response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null;
+    }
+
+    private static final class Entry {
+        final HttpResponse response;
+        final long expiresAtNanos;
+
+        Entry(HttpResponse response, long expiresAtNanos) {
+            this.response = response;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
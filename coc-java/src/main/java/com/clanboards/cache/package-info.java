@@ -0,0 +1,15 @@
+/**
+ * Response caching for the API client.
+ *
+ * <p>{@link com.clanboards.cache.ResponseCache} keeps responses in memory for as long
+ * as the API's {@code Cache-Control: max-age} allows, so repeated reads of the same
+ * resource do not spend rate limit budget.
+ *
+ * <pre>{@code
+ * CocClient client = new CocClient(transport, authenticator);
+ * client.setResponseCache(new ResponseCache(10_000));
+ * }</pre>
+ *
+ * @see com.clanboards.cache.ResponseCache
+ */
+package com.clanboards.cache;
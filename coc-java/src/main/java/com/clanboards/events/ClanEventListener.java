@@ -0,0 +1,46 @@
+package com.clanboards.events;
+
+import com.clanboards.ClanMember;
+
+/**
+ * Receives changes detected on tracked clans.
+ *
+ * All methods have empty defaults, so implementations override only the events they
+ * care about. Callbacks run on the thread that completed the poll and must not block.
+ *
+ * @see EventPoller#addClanListener(ClanEventListener)
+ */
+public interface ClanEventListener {
+    /**
+     * Called when a player appears in a tracked clan's member list.
+     *
+     * @param clanTag corrected tag of the clan
+     * @param member the new member
+     */
+    default void onMemberJoin(String clanTag, ClanMember member) {}
+
+    /**
+     * Called when a player disappears from a tracked clan's member list.
+     *
+     * @param clanTag corrected tag of the clan
+     * @param member the member as last seen
+     */
+    default void onMemberLeave(String clanTag, ClanMember member) {}
+
+    /**
+     * Called when a member's trophy count differs from the previous poll.
+     *
+     * @param clanTag corrected tag of the clan
+     * @param before the member as last seen
+     * @param after the member as just fetched
+     */
+    default void onMemberTrophiesChange(String clanTag, ClanMember before, ClanMember after) {}
+
+    /**
+     * Called when polling the clan fails or a callback of this listener throws.
+     *
+     * @param clanTag corrected tag of the clan
+     * @param error the failure
+     */
+    default void onError(String clanTag, RuntimeException error) {}
+}
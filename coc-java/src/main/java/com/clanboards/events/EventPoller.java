@@ -0,0 +1,452 @@
+package com.clanboards.events;
+
+import com.clanboards.ClanMember;
+import com.clanboards.CocClient;
+import com.clanboards.Player;
+import com.clanboards.util.TagUtil;
+import com.clanboards.wars.ClanWar;
+import com.clanboards.wars.WarAttack;
+import com.clanboards.wars.WarMember;
+import com.clanboards.wars.WarSide;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Polls tracked clans, players and wars and reports what changed between polls.
+ *
+ * This is the Java counterpart of the Python {@code EventsClient}. Each tracked tag
+ * is refreshed once per interval through the client's asynchronous API, so requests
+ * are throttled by the client's per-token rate limits like any other call. The
+ * fetched state is compared with the previous poll and differences are dispatched to
+ * the registered listeners as typed events. The first poll of a tag only records a
+ * baseline and dispatches nothing.
+ *
+ * <h2>Scheduling</h2>
+ * The interval is divided into ticks (one second by default) and every tracked tag is
+ * assigned to one tick slot, round-robin as tags are added. Each tick polls only the
+ * tags in its slot, so 100,000 tags on a ten minute interval produce a steady ~170
+ * polls per second rather than one large burst. A tag whose previous poll has not
+ * completed yet is skipped for that round instead of queueing a second request.
+ *
+ * <pre>{@code
+ * EventPoller poller = new EventPoller(client, Duration.ofMinutes(5));
+ * poller.addClanListener(new ClanEventListener() {
+ *     public void onMemberJoin(String clanTag, ClanMember member) { ... }
+ * });
+ * poller.addClans(clanTags);
+ * poller.start();
+ * }</pre>
+ *
+ * Thread-safety: This class is thread-safe. Tags and listeners may be added or
+ * removed while the poller is running.
+ *
+ * @see ClanEventListener
+ * @see PlayerEventListener
+ * @see WarEventListener
+ */
+public final class EventPoller implements AutoCloseable {
+    /** Tick length used when none is given. */
+    public static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+
+    private final CocClient client;
+    private final long tickNanos;
+    private final List<Set<Target>> slots;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final Map<String, Target> clans = new ConcurrentHashMap<>();
+    private final Map<String, Target> players = new ConcurrentHashMap<>();
+    private final Map<String, Target> wars = new ConcurrentHashMap<>();
+    private final List<ClanEventListener> clanListeners = new CopyOnWriteArrayList<>();
+    private final List<PlayerEventListener> playerListeners = new CopyOnWriteArrayList<>();
+    private final List<WarEventListener> warListeners = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService timer; // guarded by this
+    private int cursor; // only touched by the tick thread
+
+    /**
+     * Creates a poller refreshing every tracked tag once per interval, using the
+     * default tick.
+     *
+     * @param client logged-in client used for all requests
+     * @param interval time between two polls of the same tag (at least one tick)
+     * @throws IllegalArgumentException if interval is shorter than {@link #DEFAULT_TICK}
+     */
+    public EventPoller(CocClient client, Duration interval) {
+        this(client, interval, DEFAULT_TICK);
+    }
+
+    /**
+     * Creates a poller refreshing every tracked tag once per interval.
+     *
+     * @param client logged-in client used for all requests
+     * @param interval time between two polls of the same tag
+     * @param tick granularity at which the interval is sliced
+     * @throws IllegalArgumentException if tick is not positive or interval is shorter than tick
+     */
+    public EventPoller(CocClient client, Duration interval, Duration tick) {
+        this.client = Objects.requireNonNull(client, "client");
+        if (tick.isNegative() || tick.isZero()) throw new IllegalArgumentException("tick must be > 0");
+        if (interval.compareTo(tick) < 0) throw new IllegalArgumentException("interval must be >= tick");
+        this.tickNanos = tick.toNanos();
+        long count = interval.toNanos() / tickNanos;
+        if (count > Integer.MAX_VALUE) throw new IllegalArgumentException("interval has too many ticks");
+        this.slots = new ArrayList<>((int) count);
+        for (int i = 0; i < count; i++) slots.add(ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Starts polling on a background daemon thread.
+     *
+     * @throws IllegalStateException if the poller was already started
+     */
+    public synchronized void start() {
+        if (timer != null) throw new IllegalStateException("EventPoller already started");
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "coc-event-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        timer.scheduleAtFixedRate(this::tick, 0, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops polling. Polls already in flight may still dispatch their events.
+     */
+    @Override
+    public synchronized void close() {
+        if (timer != null) timer.shutdownNow();
+    }
+
+    /**
+     * Starts tracking member changes of a clan.
+     *
+     * @param tag clan tag in any format
+     */
+    public void addClan(String tag) { track(clans, tag, ClanTarget::new); }
+
+    /**
+     * Starts tracking member changes of several clans.
+     *
+     * @param tags clan tags in any format
+     */
+    public void addClans(Collection<String> tags) { for (String tag : tags) addClan(tag); }
+
+    /**
+     * Stops tracking a clan.
+     *
+     * @param tag clan tag in any format
+     */
+    public void removeClan(String tag) { untrack(clans, tag); }
+
+    /**
+     * Starts tracking changes of a player.
+     *
+     * @param tag player tag in any format
+     */
+    public void addPlayer(String tag) { track(players, tag, PlayerTarget::new); }
+
+    /**
+     * Starts tracking changes of several players.
+     *
+     * @param tags player tags in any format
+     */
+    public void addPlayers(Collection<String> tags) { for (String tag : tags) addPlayer(tag); }
+
+    /**
+     * Stops tracking a player and, once any poll in flight has finished, releases the
+     * client's poll state for it.
+     *
+     * @param tag player tag in any format
+     */
+    public void removePlayer(String tag) { untrack(players, tag); }
+
+    /**
+     * Starts tracking the current war of a clan.
+     *
+     * @param clanTag clan tag in any format
+     */
+    public void addWar(String clanTag) { track(wars, clanTag, WarTarget::new); }
+
+    /**
+     * Starts tracking the current wars of several clans.
+     *
+     * @param clanTags clan tags in any format
+     */
+    public void addWars(Collection<String> clanTags) { for (String tag : clanTags) addWar(tag); }
+
+    /**
+     * Stops tracking a clan's current war.
+     *
+     * @param clanTag clan tag in any format
+     */
+    public void removeWar(String clanTag) { untrack(wars, clanTag); }
+
+    /**
+     * Registers a listener for clan events.
+     *
+     * @param listener listener to add
+     */
+    public void addClanListener(ClanEventListener listener) { clanListeners.add(Objects.requireNonNull(listener)); }
+
+    /**
+     * Registers a listener for player events.
+     *
+     * @param listener listener to add
+     */
+    public void addPlayerListener(PlayerEventListener listener) { playerListeners.add(Objects.requireNonNull(listener)); }
+
+    /**
+     * Registers a listener for war events.
+     *
+     * @param listener listener to add
+     */
+    public void addWarListener(WarEventListener listener) { warListeners.add(Objects.requireNonNull(listener)); }
+
+    /**
+     * Returns how many clans, players and wars are tracked in total.
+     *
+     * @return number of tracked targets
+     */
+    public int getTrackedCount() { return clans.size() + players.size() + wars.size(); }
+
+    /**
+     * Polls the targets assigned to the current slot and advances to the next one.
+     */
+    void tick() {
+        Set<Target> due = slots.get(cursor);
+        cursor = cursor + 1 == slots.size() ? 0 : cursor + 1;
+        for (Target target : due) {
+            target.pollIfIdle();
+        }
+    }
+
+    private void track(Map<String, Target> targets, String tag, TargetFactory factory) {
+        String corrected = TagUtil.correctTag(tag);
+        targets.computeIfAbsent(corrected, t -> {
+            Target target = factory.create(this, t, Math.floorMod(nextSlot.getAndIncrement(), slots.size()));
+            slots.get(target.slot).add(target);
+            return target;
+        });
+    }
+
+    private void untrack(Map<String, Target> targets, String tag) {
+        Target target = targets.remove(TagUtil.correctTag(tag));
+        if (target != null) {
+            target.active = false;
+            slots.get(target.slot).remove(target);
+            target.releaseIfIdle();
+        }
+    }
+
+    private static <L> void emit(List<L> listeners, Consumer<L> event, BiConsumer<L, RuntimeException> onError) {
+        for (L listener : listeners) {
+            try {
+                event.accept(listener);
+            } catch (RuntimeException e) {
+                try {
+                    onError.accept(listener, e);
+                } catch (RuntimeException ignored) {
+                    // the listener's own error handler failed; keep notifying the others
+                }
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+    }
+
+    @FunctionalInterface
+    private interface TargetFactory {
+        Target create(EventPoller poller, String tag, int slot);
+    }
+
+    /**
+     * One tracked tag together with the state seen at its last poll.
+     */
+    private abstract static class Target {
+        final EventPoller poller;
+        final String tag;
+        final int slot;
+        final AtomicBoolean polling = new AtomicBoolean();
+        volatile boolean active = true;
+
+        Target(EventPoller poller, String tag, int slot) {
+            this.poller = poller;
+            this.tag = tag;
+            this.slot = slot;
+        }
+
+        void pollIfIdle() {
+            if (!polling.compareAndSet(false, true)) return;
+            CompletableFuture<?> poll;
+            try {
+                poll = poll();
+            } catch (RuntimeException e) {
+                polling.set(false);
+                fail(e);
+                return;
+            }
+            poll.whenComplete((ignored, error) -> {
+                if (error != null && active) fail(unwrap(error));
+                polling.set(false);
+                if (!active) releaseIfIdle();
+            });
+        }
+
+        /**
+         * Runs {@link #release()} once the target is untracked and no poll is running.
+         * Called both on untrack and after each poll; whichever sees the target inactive
+         * and idle last wins the flag, so a poll finishing late cannot restore the state.
+         */
+        void releaseIfIdle() {
+            if (polling.compareAndSet(false, true)) release();
+        }
+
+        /** Frees client-side state kept for this target; polling is never resumed afterwards. */
+        void release() {}
+
+        /** Starts the request and applies its result; completes once the diff has run. */
+        abstract CompletableFuture<?> poll();
+
+        abstract void fail(RuntimeException error);
+    }
+
+    private static final class ClanTarget extends Target {
+        private Map<String, ClanMember> members; // null until the first poll
+
+        ClanTarget(EventPoller poller, String tag, int slot) { super(poller, tag, slot); }
+
+        @Override
+        CompletableFuture<?> poll() {
+            return poller.client.getMembersAsync(tag, null, null, null).thenAccept(this::update);
+        }
+
+        private void update(List<ClanMember> fetched) {
+            Map<String, ClanMember> current = new LinkedHashMap<>();
+            for (ClanMember m : fetched) current.put(m.getTag(), m);
+            Map<String, ClanMember> before = members;
+            members = current;
+            if (before == null || !active) return;
+            List<ClanEventListener> listeners = poller.clanListeners;
+            for (ClanMember m : current.values()) {
+                ClanMember old = before.get(m.getTag());
+                if (old == null) {
+                    emit(listeners, l -> l.onMemberJoin(tag, m), this::error);
+                } else if (old.getTrophies() != m.getTrophies()) {
+                    emit(listeners, l -> l.onMemberTrophiesChange(tag, old, m), this::error);
+                }
+            }
+            for (ClanMember old : before.values()) {
+                if (!current.containsKey(old.getTag())) {
+                    emit(listeners, l -> l.onMemberLeave(tag, old), this::error);
+                }
+            }
+        }
+
+        private void error(ClanEventListener listener, RuntimeException e) { listener.onError(tag, e); }
+
+        @Override
+        void fail(RuntimeException error) { emit(poller.clanListeners, l -> l.onError(tag, error), (l, e) -> {}); }
+    }
+
+    private static final class PlayerTarget extends Target {
+        private Player last;
+
+        PlayerTarget(EventPoller poller, String tag, int slot) { super(poller, tag, slot); }
+
+        @Override
+        CompletableFuture<?> poll() {
+            return poller.client.pollPlayerAsync(tag).thenAccept(result -> {
+                // an unchanged body cannot carry new events, so skip the diff
+                if (result.isChanged() || last == null) update(result.getValue());
+            });
+        }
+
+        private void update(Player player) {
+            Player before = last;
+            last = player;
+            if (before == null || !active) return;
+            if (before.getTrophies() != player.getTrophies()) {
+                emit(poller.playerListeners, l -> l.onTrophiesChange(before, player), (l, e) -> l.onError(tag, e));
+            }
+        }
+
+        @Override
+        void release() { poller.client.forgetPlayerPollState(tag); }
+
+        @Override
+        void fail(RuntimeException error) { emit(poller.playerListeners, l -> l.onError(tag, error), (l, e) -> {}); }
+    }
+
+    private static final class WarTarget extends Target {
+        private ClanWar last;
+        private final BitSet seenAttacks = new BitSet(); // by attack order within the current war
+
+        WarTarget(EventPoller poller, String tag, int slot) { super(poller, tag, slot); }
+
+        @Override
+        CompletableFuture<?> poll() {
+            return poller.client.getCurrentWarAsync(tag).thenAccept(this::update);
+        }
+
+        private void update(ClanWar war) {
+            ClanWar before = last;
+            last = war;
+            if (before != null && isNewWar(before, war)) seenAttacks.clear();
+            List<WarAttack> fresh = new ArrayList<>();
+            for (WarSide side : new WarSide[]{war.getClan(), war.getOpponent()}) {
+                if (side == null) continue;
+                for (WarMember member : side.getMembers()) {
+                    for (WarAttack attack : member.getAttacks()) {
+                        if (attack.getOrder() > 0 && !seenAttacks.get(attack.getOrder())) {
+                            seenAttacks.set(attack.getOrder());
+                            fresh.add(attack);
+                        }
+                    }
+                }
+            }
+            if (before == null || !active) return;
+            List<WarEventListener> listeners = poller.warListeners;
+            if (!Objects.equals(before.getState(), war.getState())) {
+                emit(listeners, l -> l.onWarStateChange(tag, before, war), (l, e) -> l.onError(tag, e));
+            }
+            fresh.sort(Comparator.comparingInt(WarAttack::getOrder));
+            for (WarAttack attack : fresh) {
+                emit(listeners, l -> l.onWarAttack(tag, war, attack), (l, e) -> l.onError(tag, e));
+            }
+        }
+
+        private static boolean isNewWar(ClanWar before, ClanWar after) {
+            if (!Objects.equals(opponentTag(before), opponentTag(after))) return true;
+            return "preparation".equals(after.getState()) && !"preparation".equals(before.getState());
+        }
+
+        private static String opponentTag(ClanWar war) {
+            return war.getOpponent() != null ? war.getOpponent().getTag() : null;
+        }
+
+        @Override
+        void fail(RuntimeException error) { emit(poller.warListeners, l -> l.onError(tag, error), (l, e) -> {}); }
+    }
+}
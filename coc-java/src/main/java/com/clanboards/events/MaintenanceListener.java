@@ -0,0 +1,26 @@
+package com.clanboards.events;
+
+import java.time.Duration;
+
+/**
+ * Receives notice when the API goes into and comes out of maintenance.
+ *
+ * All methods have empty defaults, so implementations override only the events they
+ * care about. Callbacks run on the thread whose request changed the state and must not
+ * block.
+ *
+ * @see com.clanboards.resilience.CircuitBreaker#addMaintenanceListener(MaintenanceListener)
+ */
+public interface MaintenanceListener {
+    /**
+     * Called when repeated server errors open the circuit; requests now fail fast.
+     */
+    default void onMaintenanceStart() {}
+
+    /**
+     * Called when a probe request succeeds and the circuit closes again.
+     *
+     * @param downtime time since {@link #onMaintenanceStart()}
+     */
+    default void onMaintenanceEnd(Duration downtime) {}
+}
@@ -0,0 +1,29 @@
+package com.clanboards.events;
+
+import com.clanboards.Player;
+
+/**
+ * Receives changes detected on tracked players.
+ *
+ * All methods have empty defaults, so implementations override only the events they
+ * care about. Callbacks run on the thread that completed the poll and must not block.
+ *
+ * @see EventPoller#addPlayerListener(PlayerEventListener)
+ */
+public interface PlayerEventListener {
+    /**
+     * Called when a player's trophy count differs from the previous poll.
+     *
+     * @param before the player as last seen
+     * @param after the player as just fetched
+     */
+    default void onTrophiesChange(Player before, Player after) {}
+
+    /**
+     * Called when polling the player fails or a callback of this listener throws.
+     *
+     * @param playerTag corrected tag of the player
+     * @param error the failure
+     */
+    default void onError(String playerTag, RuntimeException error) {}
+}
@@ -0,0 +1,40 @@
+package com.clanboards.events;
+
+import com.clanboards.wars.ClanWar;
+import com.clanboards.wars.WarAttack;
+
+/**
+ * Receives changes detected on the current wars of tracked clans.
+ *
+ * All methods have empty defaults, so implementations override only the events they
+ * care about. Callbacks run on the thread that completed the poll and must not block.
+ *
+ * @see EventPoller#addWarListener(WarEventListener)
+ */
+public interface WarEventListener {
+    /**
+     * Called once for every attack, by either side, not seen in a previous poll.
+     *
+     * @param clanTag corrected tag of the tracked clan
+     * @param war the war as just fetched
+     * @param attack the new attack
+     */
+    default void onWarAttack(String clanTag, ClanWar war, WarAttack attack) {}
+
+    /**
+     * Called when the war state changes, e.g. from preparation to inWar.
+     *
+     * @param clanTag corrected tag of the tracked clan
+     * @param before the war as last seen
+     * @param after the war as just fetched
+     */
+    default void onWarStateChange(String clanTag, ClanWar before, ClanWar after) {}
+
+    /**
+     * Called when polling the war fails or a callback of this listener throws.
+     *
+     * @param clanTag corrected tag of the tracked clan
+     * @param error the failure, e.g. PrivateWarLogException
+     */
+    default void onError(String clanTag, RuntimeException error) {}
+}
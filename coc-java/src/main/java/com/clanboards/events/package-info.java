@@ -0,0 +1,16 @@
+/**
+ * Change detection by polling, the Java counterpart of the Python events module.
+ *
+ * <p>{@link com.clanboards.events.EventPoller} refreshes tracked clans, players and
+ * wars at a fixed interval, spreading the requests evenly over that interval, and
+ * reports differences to {@link com.clanboards.events.ClanEventListener},
+ * {@link com.clanboards.events.PlayerEventListener} and
+ * {@link com.clanboards.events.WarEventListener} implementations.
+ *
+ * <p>{@link com.clanboards.events.MaintenanceListener} is notified by a
+ * {@link com.clanboards.resilience.CircuitBreaker} when the API goes into and comes out
+ * of maintenance.
+ *
+ * @see com.clanboards.events.EventPoller
+ */
+package com.clanboards.events;
@@ -0,0 +1,22 @@
+package com.clanboards.exceptions;
+
+/**
+ * Exception thrown when the Clash of Clans API is unavailable for maintenance.
+ *
+ * This exception is thrown for HTTP 503 responses, and without contacting the API at
+ * all while a {@link com.clanboards.resilience.CircuitBreaker} is open after repeated
+ * server errors. It corresponds to {@code coc.Maintenance} in the Python client.
+ *
+ * Callers should pause their work rather than retry immediately; a
+ * {@link com.clanboards.events.MaintenanceListener} is told when the API is reachable again.
+ *
+ * @see com.clanboards.resilience.CircuitBreaker
+ */
+public class MaintenanceException extends RuntimeException {
+    /**
+     * Creates a new MaintenanceException with the specified detail message.
+     *
+     * @param message detail message describing the unavailable request
+     */
+    public MaintenanceException(String message) { super(message); }
+}
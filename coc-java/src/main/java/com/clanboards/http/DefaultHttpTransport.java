@@ -9,6 +9,9 @@ import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Default HTTP transport implementation using Java 11+ HttpClient.
@@ -20,15 +23,30 @@ import java.util.Map;
  * Features:
  * - Automatic cookie handling for session management
  * - 20-second connection timeout
- * - 30-second request timeout
+ * - 30-second request timeout, overridable per request via {@link HttpRequest#getTimeout()}
+ * - Non-blocking execution via {@link #executeAsync(HttpRequest)}
+ * - Response headers, elapsed time and wire bytes recorded on each {@link HttpResponse}
+ * - gzip/deflate negotiation; bodies stay compressed until the caller reads them
  * - Thread-safe for concurrent use
  *
+ * The defaults suit the developer-site login flow. High-volume API clients can use
+ * {@link #newBuilder()} to choose the HTTP version, executor, timeouts and whether cookies
+ * are kept at all.
+ *
  * Thread-safety: This class is thread-safe and designed for concurrent use.
  *
  * @see HttpTransport
  */
 public class DefaultHttpTransport implements HttpTransport {
+    /** Encodings offered to the server; decoded by {@link HttpResponse#openBody()}. */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    /** System property read by the JDK HttpClient for idle pooled connection lifetime, in seconds. */
+    static final String KEEPALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
     private final HttpClient client;
+    private final Duration requestTimeout;
+    private final boolean compression;
 
     /**
      * Creates a default HTTP transport with cookie support and timeouts.
@@ -39,12 +57,44 @@ public class DefaultHttpTransport implements HttpTransport {
      * - Automatic redirect following
      */
     public DefaultHttpTransport() {
-        CookieManager cookieManager = new CookieManager();
-        cookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
-        this.client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(20))
-                .cookieHandler(cookieManager)
-                .build();
+        this(new Builder());
+    }
+
+    private DefaultHttpTransport(Builder b) {
+        HttpClient.Builder cb = HttpClient.newBuilder().connectTimeout(b.connectTimeout);
+        if (b.cookies) {
+            CookieManager cookieManager = new CookieManager();
+            cookieManager.setCookiePolicy(CookiePolicy.ACCEPT_ALL);
+            cb.cookieHandler(cookieManager);
+        }
+        if (b.version != null) cb.version(b.version);
+        if (b.executor != null) cb.executor(b.executor);
+        this.client = cb.build();
+        this.requestTimeout = b.requestTimeout;
+        this.compression = b.compression;
+    }
+
+    /**
+     * Creates a builder for a transport with non-default connection settings.
+     *
+     * @return new builder preset to the same defaults as {@link #DefaultHttpTransport()}
+     */
+    public static Builder newBuilder() { return new Builder(); }
+
+    /**
+     * Sets how long idle pooled connections are kept open for reuse, JVM-wide.
+     *
+     * The JDK HttpClient offers no per-client setting for this; the value is written to
+     * the {@code jdk.httpclient.keepalive.timeout} system property, which applies to
+     * every HttpClient in the JVM and is read once, when the HttpClient implementation
+     * is first used. Call this at startup, before any transport is created.
+     *
+     * @param idle idle time before a pooled connection is closed
+     * @throws IllegalArgumentException if idle is null, zero or negative
+     */
+    public static void setGlobalKeepAliveTimeout(Duration idle) {
+        long seconds = Math.max(1L, Builder.positive(idle).toSeconds());
+        System.setProperty(KEEPALIVE_PROPERTY, Long.toString(seconds));
     }
 
     /**
@@ -55,33 +105,17 @@ public class DefaultHttpTransport implements HttpTransport {
      * back to the custom HttpResponse format.
      *
      * @param request the HTTP request to execute
-     * @return HTTP response with status code and body
+     * @return HTTP response with status code, headers, body and timing
      * @throws RuntimeException if the request is interrupted, times out,
      *         or encounters I/O errors
      */
     @Override
     public HttpResponse execute(HttpRequest request) {
         try {
-            java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder()
-                    .uri(URI.create(request.getUrl()))
-                    .timeout(Duration.ofSeconds(30));
-
-            // Apply method and body
-            switch (request.getMethod()) {
-                case GET -> builder.GET();
-                case POST -> builder.POST(BodyPublishers.ofByteArray(request.getBody()));
-                case PUT -> builder.PUT(BodyPublishers.ofByteArray(request.getBody()));
-                case DELETE -> builder.DELETE();
-                default -> throw new IllegalArgumentException("Unsupported method: " + request.getMethod());
-            }
-
-            // Headers
-            for (Map.Entry<String, String> h : request.getHeaders().entrySet()) {
-                builder.header(h.getKey(), h.getValue());
-            }
-
-            var httpResp = client.send(builder.build(), BodyHandlers.ofByteArray());
-            return new HttpResponse(httpResp.statusCode(), httpResp.body());
+            java.net.http.HttpRequest javaRequest = toJavaRequest(request);
+            long start = System.nanoTime();
+            var httpResp = client.send(javaRequest, BodyHandlers.ofByteArray());
+            return toResponse(httpResp, start);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("HTTP interrupted", e);
@@ -89,5 +123,157 @@ public class DefaultHttpTransport implements HttpTransport {
             throw new RuntimeException("HTTP I/O error", e);
         }
     }
-}
 
+    /**
+     * Executes an HTTP request asynchronously using {@link HttpClient#sendAsync}.
+     *
+     * No thread is blocked while the exchange is in flight; the returned future is
+     * completed by the HttpClient's executor once the response body has been read.
+     * Cancelling the future aborts the exchange.
+     *
+     * @param request the HTTP request to execute
+     * @return future completing with the HTTP response, or exceptionally with a
+     *         RuntimeException wrapping the underlying I/O error
+     */
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        java.net.http.HttpRequest javaRequest;
+        try {
+            javaRequest = toJavaRequest(request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long start = System.nanoTime();
+        var exchange = client.sendAsync(javaRequest, BodyHandlers.ofByteArray());
+        CompletableFuture<HttpResponse> result = exchange.handle((httpResp, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                throw new RuntimeException("HTTP I/O error", cause);
+            }
+            return toResponse(httpResp, start);
+        });
+        // Cancelling the returned future aborts the exchange, e.g. the losing copy of a hedged request
+        result.whenComplete((resp, error) -> {
+            if (result.isCancelled()) exchange.cancel(true);
+        });
+        return result;
+    }
+
+    private static HttpResponse toResponse(java.net.http.HttpResponse<byte[]> httpResp, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        byte[] body = httpResp.body();
+        String[] fields = HttpResponse.flatten(httpResp.headers().map());
+        return new HttpResponse(httpResp.statusCode(), body, fields, elapsed, body != null ? body.length : 0L);
+    }
+
+    private java.net.http.HttpRequest toJavaRequest(HttpRequest request) {
+        Duration timeout = request.getTimeout() != null ? request.getTimeout() : requestTimeout;
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder()
+                .uri(URI.create(request.getUrl()))
+                .timeout(timeout);
+
+        // Apply method and body
+        switch (request.getMethod()) {
+            case GET -> builder.GET();
+            case POST -> builder.POST(BodyPublishers.ofByteArray(request.getBody()));
+            case PUT -> builder.PUT(BodyPublishers.ofByteArray(request.getBody()));
+            case DELETE -> builder.DELETE();
+            default -> throw new IllegalArgumentException("Unsupported method: " + request.getMethod());
+        }
+
+        // Headers
+        boolean encodingSet = false;
+        for (Map.Entry<String, String> h : request.getHeaders().entrySet()) {
+            builder.header(h.getKey(), h.getValue());
+            encodingSet |= h.getKey().equalsIgnoreCase("Accept-Encoding");
+        }
+        if (compression && !encodingSet) builder.header("Accept-Encoding", ACCEPT_ENCODING);
+        return builder.build();
+    }
+
+    /**
+     * Builder for {@link DefaultHttpTransport} instances.
+     *
+     * Unset options keep the defaults of the no-argument constructor.
+     * Thread-safety: Builder instances are not thread-safe.
+     */
+    public static final class Builder {
+        private HttpClient.Version version;
+        private Executor executor;
+        private Duration connectTimeout = Duration.ofSeconds(20);
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private boolean cookies = true;
+        private boolean compression = true;
+
+        private Builder() { }
+
+        /**
+         * Sets the preferred HTTP version.
+         *
+         * With {@link HttpClient.Version#HTTP_2} many concurrent requests are multiplexed
+         * over a few connections, falling back to HTTP/1.1 if the server does not offer
+         * HTTP/2. {@link HttpClient.Version#HTTP_1_1} opens one connection per concurrent
+         * request instead, which avoids head-of-line stalls on a congested connection.
+         *
+         * @param version preferred version (null for the HttpClient default, HTTP/2)
+         * @return this builder for method chaining
+         */
+        public Builder version(HttpClient.Version version) { this.version = version; return this; }
+        /**
+         * Sets the executor that runs asynchronous exchanges and completes their futures.
+         *
+         * A virtual-thread-per-task executor is a good fit on Java 21+.
+         *
+         * @param executor executor to use (null for the HttpClient's own cached pool)
+         * @return this builder for method chaining
+         */
+        public Builder executor(Executor executor) { this.executor = executor; return this; }
+        /**
+         * Sets the time allowed to establish a connection.
+         *
+         * @param timeout connect timeout
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if timeout is null, zero or negative
+         */
+        public Builder connectTimeout(Duration timeout) { this.connectTimeout = positive(timeout); return this; }
+        /**
+         * Sets the default time allowed until response headers arrive.
+         *
+         * Individual requests can override it with {@link HttpRequest.Builder#timeout(Duration)}.
+         *
+         * @param timeout request timeout
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if timeout is null, zero or negative
+         */
+        public Builder requestTimeout(Duration timeout) { this.requestTimeout = positive(timeout); return this; }
+        /**
+         * Sets whether cookies are stored and replayed.
+         *
+         * The developer-site login needs cookies; API traffic authenticated with
+         * bearer tokens does not, so clients using pre-issued tokens can turn them off.
+         *
+         * @param enabled true to keep cookies (default)
+         * @return this builder for method chaining
+         */
+        public Builder cookies(boolean enabled) { this.cookies = enabled; return this; }
+        /**
+         * Sets whether gzip/deflate response compression is requested.
+         *
+         * @param enabled true to send {@code Accept-Encoding} (default)
+         * @return this builder for method chaining
+         */
+        public Builder compression(boolean enabled) { this.compression = enabled; return this; }
+        /**
+         * Builds a transport with the configured settings.
+         *
+         * @return new transport backed by its own HttpClient
+         */
+        public DefaultHttpTransport build() { return new DefaultHttpTransport(this); }
+
+        private static Duration positive(Duration d) {
+            if (d == null || d.isZero() || d.isNegative()) throw new IllegalArgumentException("duration must be positive");
+            return d;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.clanboards.http;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -26,12 +27,14 @@ public final class HttpRequest {
     private final String url;
     private final Map<String, String> headers;
     private final byte[] body;
+    private final Duration timeout;
 
-    private HttpRequest(Method method, String url, Map<String, String> headers, byte[] body) {
+    private HttpRequest(Method method, String url, Map<String, String> headers, byte[] body, Duration timeout) {
         this.method = method;
         this.url = url;
         this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
         this.body = body;
+        this.timeout = timeout;
     }
 
     /**
@@ -61,6 +64,12 @@ public final class HttpRequest {
      * @return request body bytes (never null)
      */
     public byte[] getBody() { return body; }
+    /**
+     * Returns the timeout for this request, overriding the transport's default.
+     *
+     * @return request timeout, or null to use the transport's default
+     */
+    public Duration getTimeout() { return timeout; }
 
     /**
      * Creates a new builder for constructing HTTP requests.
@@ -80,6 +89,7 @@ public final class HttpRequest {
         private String url;
         private final Map<String, String> headers = new HashMap<>();
         private byte[] body = new byte[0];
+        private Duration timeout;
 
         /**
          * Sets the HTTP method for the request.
@@ -110,13 +120,27 @@ public final class HttpRequest {
          * @return this builder for method chaining
          */
         public Builder body(byte[] body) { this.body = body; return this; }
+        /**
+         * Sets a timeout for this request only, overriding the transport's default.
+         *
+         * @param timeout time allowed until the response headers arrive (null for the transport default)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if timeout is zero or negative
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+                throw new IllegalArgumentException("timeout must be positive");
+            }
+            this.timeout = timeout;
+            return this;
+        }
 
         /**
          * Builds an immutable HttpRequest instance.
          *
          * @return new HttpRequest with configured properties
          */
-        public HttpRequest build() { return new HttpRequest(method, url, headers, body); }
+        public HttpRequest build() { return new HttpRequest(method, url, headers, body, timeout); }
     }
 }
 
@@ -1,20 +1,48 @@
 package com.clanboards.http;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
 /**
- * Immutable HTTP response model containing status code and response body.
+ * Immutable HTTP response model containing status code, headers and response body.
  *
  * This class represents the result of an HTTP request execution, providing
- * access to the response status code and body data. Instances are created
+ * access to the response status code, headers and body data. Instances are created
  * by HttpTransport implementations and consumed by CocClient.
  *
+ * Headers are held in a single flat array of alternating names and values rather than
+ * a map of lists, so capturing them costs one allocation per response. Lookups scan the
+ * array; API responses carry only a handful of headers, which makes a scan cheaper than
+ * hashing. Transports may also record how long the exchange took and how many body
+ * bytes crossed the wire; both are -1 when unknown.
+ *
+ * The body is held as received. When the {@code Content-Encoding} header names gzip or
+ * deflate, {@link #openBody()} decompresses while the caller reads, so a JSON parser can
+ * consume the response without an inflated copy ever being built; {@link #getBody()}
+ * inflates on first call and keeps the result.
+ *
  * Thread-safety: This class is immutable and thread-safe.
  *
  * @see HttpTransport#execute(HttpRequest)
  * @see HttpRequest
  */
 public final class HttpResponse {
+    private static final String[] NO_HEADERS = new String[0];
+
     private final int statusCode;
     private final byte[] body;
+    private volatile byte[] decoded; // inflated body, built on first getBody() of a compressed response
+    private final String[] headerFields; // name0, value0, name1, value1, ...
+    private final long elapsedNanos;
+    private final long wireBytes;
 
     /**
      * Creates an HTTP response with the specified status code and body.
@@ -23,8 +51,43 @@ public final class HttpResponse {
      * @param body response body bytes (null will be stored as provided)
      */
     public HttpResponse(int statusCode, byte[] body) {
+        this(statusCode, body, NO_HEADERS, -1L, -1L);
+    }
+
+    /**
+     * Creates an HTTP response with the specified status code, body and headers.
+     *
+     * @param statusCode HTTP status code (e.g., 200, 404, 500)
+     * @param body response body bytes (null will be stored as provided)
+     * @param headers response headers by name (null is treated as no headers)
+     */
+    public HttpResponse(int statusCode, byte[] body, Map<String, List<String>> headers) {
+        this(statusCode, body, flatten(headers), -1L, -1L);
+    }
+
+    /**
+     * Creates an HTTP response from flat header fields and exchange metrics.
+     *
+     * The header array is used as-is to avoid a copy; the caller hands it over and must
+     * not modify it afterwards. Repeated headers appear as repeated name/value pairs.
+     *
+     * @param statusCode HTTP status code (e.g., 200, 404, 500)
+     * @param body response body bytes as received, possibly compressed per Content-Encoding
+     *        (null will be stored as provided)
+     * @param headerFields alternating header names and values (null is treated as no headers)
+     * @param elapsedNanos time from sending the request to receiving the full body, or -1 if unknown
+     * @param wireBytes body bytes received from the network, or -1 if unknown
+     * @throws IllegalArgumentException if headerFields has an odd length
+     */
+    public HttpResponse(int statusCode, byte[] body, String[] headerFields, long elapsedNanos, long wireBytes) {
+        if (headerFields != null && (headerFields.length & 1) != 0) {
+            throw new IllegalArgumentException("headerFields must hold name/value pairs");
+        }
         this.statusCode = statusCode;
         this.body = body;
+        this.headerFields = headerFields != null ? headerFields : NO_HEADERS;
+        this.elapsedNanos = elapsedNanos;
+        this.wireBytes = wireBytes;
     }
 
     /**
@@ -43,10 +106,161 @@ public final class HttpResponse {
      *
      * The body contains the raw response data from the server,
      * typically JSON for API responses. May be null or empty
-     * for certain response types.
+     * for certain response types. A compressed body is inflated on
+     * the first call and the result is reused afterwards.
      *
-     * @return response body bytes (may be null)
+     * @return decompressed response body bytes (may be null)
+     * @throws UncheckedIOException if a compressed body is corrupt
      */
-    public byte[] getBody() { return body; }
-}
+    public byte[] getBody() {
+        if (body == null || !isCompressed()) return body;
+        byte[] d = decoded;
+        if (d == null) {
+            try (InputStream in = openBody()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length * 4));
+                in.transferTo(out);
+                d = out.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to decompress response body", e);
+            }
+            decoded = d;
+        }
+        return d;
+    }
+
+    /**
+     * Opens a stream over the decompressed response body.
+     *
+     * Compressed bodies are inflated incrementally as the stream is read, unless
+     * {@link #getBody()} already did so. Each call returns an independent stream.
+     *
+     * @return stream of body bytes (empty if the body is null)
+     * @throws IOException if the compressed body has an invalid header
+     */
+    public InputStream openBody() throws IOException {
+        byte[] d = decoded;
+        if (d != null) return new ByteArrayInputStream(d);
+        if (body == null) return InputStream.nullInputStream();
+        InputStream raw = new ByteArrayInputStream(body);
+        String encoding = getHeader("Content-Encoding");
+        if (encoding == null) return raw;
+        if (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip")) {
+            return new GZIPInputStream(raw, 8192);
+        }
+        if (encoding.equalsIgnoreCase("deflate")) {
+            // RFC 9110 deflate is zlib-wrapped, but some servers send a bare deflate stream
+            Inflater inflater = new Inflater(!hasZlibHeader(body));
+            return new InflaterInputStream(raw, inflater, 8192) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inflater.end(); // not released by close() for a caller-supplied Inflater
+                    }
+                }
+            };
+        }
+        return raw;
+    }
+
+    /**
+     * Returns whether the body is held compressed and is inflated on access.
+     *
+     * @return true if Content-Encoding is gzip or deflate
+     */
+    public boolean isCompressed() {
+        String encoding = getHeader("Content-Encoding");
+        return encoding != null && (encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip")
+                || encoding.equalsIgnoreCase("deflate"));
+    }
+
+    /**
+     * Returns the first value of a response header.
+     *
+     * Header names are matched case-insensitively.
+     *
+     * @param name header name (e.g., "Cache-Control")
+     * @return first header value, or null if the header is absent
+     */
+    public String getHeader(String name) {
+        String[] f = headerFields;
+        for (int i = 0; i < f.length; i += 2) {
+            if (name.equalsIgnoreCase(f[i])) return f[i + 1];
+        }
+        return null;
+    }
 
+    /**
+     * Returns the number of header fields, counting repeated headers once per value.
+     *
+     * @return header field count
+     */
+    public int getHeaderCount() { return headerFields.length >> 1; }
+
+    /**
+     * Returns the name of a header field.
+     *
+     * @param index field index, from 0 to {@link #getHeaderCount()} - 1
+     * @return header name as received
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String getHeaderName(int index) {
+        return headerFields[checkField(index)];
+    }
+
+    /**
+     * Returns the value of a header field.
+     *
+     * @param index field index, from 0 to {@link #getHeaderCount()} - 1
+     * @return header value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String getHeaderValue(int index) {
+        return headerFields[checkField(index) + 1];
+    }
+
+    /**
+     * Returns how long the exchange took, from sending the request until the whole
+     * body had been received.
+     *
+     * @return elapsed time in nanoseconds, or -1 if the transport did not measure it
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * Returns how many body bytes were received from the network.
+     *
+     * For a compressed response this is the compressed size, which is usually
+     * several times smaller than {@link #getBody()}.
+     *
+     * @return bytes on the wire, or -1 if the transport did not record it
+     */
+    public long getWireBytes() { return wireBytes; }
+
+    private int checkField(int index) {
+        if (index < 0 || index >= getHeaderCount()) {
+            throw new IndexOutOfBoundsException("header index " + index + " out of range for " + getHeaderCount());
+        }
+        return index << 1;
+    }
+
+    private static boolean hasZlibHeader(byte[] b) {
+        return b.length >= 2 && (b[0] & 0x0F) == 8 && (((b[0] & 0xFF) << 8) | (b[1] & 0xFF)) % 31 == 0;
+    }
+
+    static String[] flatten(Map<String, List<String>> headers) {
+        if (headers == null || headers.isEmpty()) return NO_HEADERS;
+        int n = 0;
+        for (List<String> values : headers.values()) n += values.size();
+        String[] fields = new String[n << 1];
+        int i = 0;
+        for (Map.Entry<String, List<String>> e : headers.entrySet()) {
+            for (String v : e.getValue()) {
+                fields[i++] = e.getKey();
+                fields[i++] = v;
+            }
+        }
+        return fields;
+    }
+}
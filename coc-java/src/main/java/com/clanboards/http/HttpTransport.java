@@ -1,5 +1,7 @@
 package com.clanboards.http;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Abstraction for HTTP transport used by CocClient to execute API requests.
  *
@@ -26,5 +28,27 @@ public interface HttpTransport {
      *         timeouts, or other I/O problems
      */
     HttpResponse execute(HttpRequest request);
+
+    /**
+     * Executes an HTTP request without blocking the calling thread.
+     *
+     * The default implementation delegates to {@link #execute(HttpRequest)} on the
+     * calling thread and returns an already-completed future, which keeps simple and
+     * fake transports working unchanged. Implementations backed by a non-blocking
+     * client should override this so that many requests can be in flight without
+     * holding a thread each. The client cancels the returned future when it no longer
+     * needs the response; implementations may abort the exchange in that case.
+     *
+     * @param request the HTTP request to execute
+     * @return future completing with the HTTP response, or exceptionally with a
+     *         RuntimeException if the request fails
+     */
+    default CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+        try {
+            return CompletableFuture.completedFuture(execute(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
 
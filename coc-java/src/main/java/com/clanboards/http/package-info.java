@@ -19,6 +19,13 @@
  * // Production usage
  * HttpTransport transport = new DefaultHttpTransport();
  *
+ * // High-volume API traffic with pre-issued tokens
+ * HttpTransport crawler = DefaultHttpTransport.newBuilder()
+ *     .version(HttpClient.Version.HTTP_2)
+ *     .requestTimeout(Duration.ofSeconds(10))
+ *     .cookies(false)
+ *     .build();
+ *
  * // Testing with mock
  * HttpTransport mockTransport = new FakeHttpTransport();
  * }</pre>
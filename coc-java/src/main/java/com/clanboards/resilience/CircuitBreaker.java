@@ -0,0 +1,152 @@
+package com.clanboards.resilience;
+
+import com.clanboards.events.MaintenanceListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stops sending requests while the API is failing and lets a single probe test recovery.
+ *
+ * The breaker starts {@link State#CLOSED}. After {@code failureThreshold} consecutive
+ * failures (5xx responses or transport errors) it opens: requests are refused without
+ * using the network or a rate-limit permit, and maintenance listeners are told. Once
+ * {@code openDuration} has passed the next request is let through as the only probe
+ * ({@link State#HALF_OPEN}); if it succeeds the breaker closes and listeners learn that
+ * maintenance ended, otherwise it opens for another period. A probe whose outcome is never
+ * reported, for instance because its thread was interrupted, is replaced by a new one
+ * after another {@code openDuration}.
+ *
+ * Any response below 500 counts as success, since a 404 still proves the API is up.
+ *
+ * Thread-safety: This class is lock-free and thread-safe.
+ *
+ * @see com.clanboards.CocClient#setCircuitBreaker(CircuitBreaker)
+ * @see com.clanboards.exceptions.MaintenanceException
+ */
+public final class CircuitBreaker {
+    /**
+     * Breaker states.
+     */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger failures = new AtomicInteger();
+    private final List<MaintenanceListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile long openedAt;    // start of the current outage
+    private final AtomicLong probeAt = new AtomicLong(); // OPEN: earliest probe; HALF_OPEN: when the probe was sent
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param failureThreshold consecutive failures that open the circuit (must be > 0)
+     * @param openDuration time to refuse requests before probing (must be positive)
+     * @throws IllegalArgumentException if either argument is out of range
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        if (failureThreshold <= 0) throw new IllegalArgumentException("failureThreshold must be > 0");
+        if (openDuration == null || openDuration.isZero() || openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Registers a listener for maintenance start and end.
+     *
+     * @param listener listener to add
+     */
+    public void addMaintenanceListener(MaintenanceListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener listener to remove
+     */
+    public void removeMaintenanceListener(MaintenanceListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Asks whether a request may be sent now.
+     *
+     * When this returns true the caller must report the outcome through
+     * {@link #onSuccess()} or {@link #onFailure()}; in the half-open state it is the probe
+     * that decides whether the circuit closes.
+     *
+     * @return true if the request may proceed, false if it should fail fast
+     */
+    public boolean tryAcquire() {
+        State s = state.get();
+        if (s == State.CLOSED) return true;
+        long now = System.nanoTime();
+        long at = probeAt.get();
+        if (s == State.OPEN) {
+            if (now - at < 0 || !state.compareAndSet(State.OPEN, State.HALF_OPEN)) return false;
+            probeAt.set(now);
+            return true;
+        }
+        // HALF_OPEN: only one probe, unless the last one went missing
+        return now - at >= openNanos && probeAt.compareAndSet(at, now);
+    }
+
+    /**
+     * Reports a request that reached a working API.
+     */
+    public void onSuccess() {
+        failures.set(0);
+        if (state.get() != State.CLOSED && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            Duration downtime = Duration.ofNanos(System.nanoTime() - openedAt);
+            for (MaintenanceListener l : listeners) {
+                try {
+                    l.onMaintenanceEnd(downtime);
+                } catch (RuntimeException ignored) {
+                    // a failing listener must not affect request handling
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports a server error or transport failure.
+     */
+    public void onFailure() {
+        long now = System.nanoTime();
+        State s = state.get();
+        if (s == State.HALF_OPEN) {
+            probeAt.set(now + openNanos);
+            state.compareAndSet(State.HALF_OPEN, State.OPEN);
+            return;
+        }
+        if (s == State.OPEN) return; // late result of a request sent before opening
+        if (failures.incrementAndGet() < failureThreshold) return;
+        probeAt.set(now + openNanos);
+        openedAt = now;
+        if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+            for (MaintenanceListener l : listeners) {
+                try {
+                    l.onMaintenanceStart();
+                } catch (RuntimeException ignored) {
+                    // a failing listener must not affect request handling
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return breaker state
+     */
+    public State getState() { return state.get(); }
+}
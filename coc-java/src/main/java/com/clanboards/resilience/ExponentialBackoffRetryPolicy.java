@@ -0,0 +1,242 @@
+package com.clanboards.resilience;
+
+import com.clanboards.http.HttpResponse;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retries transient failures with exponential backoff, jitter and a shared retry budget.
+ *
+ * Gateway errors (500, 502, 503, 504 by default) and transport timeouts are retried up
+ * to {@code maxRetries} times; HTTP 429 has its own, smaller limit because the token
+ * that received it is already being backed off by the scheduler. The n-th retry waits
+ * between half and all of {@code baseDelay * 2^(n-1)}, capped at {@code maxDelay}, so
+ * clients that failed together do not retry together. A {@code Retry-After} header
+ * raises the wait to at least the requested time, and a request asking for longer than
+ * {@code maxRetryAfter} is not retried at all.
+ *
+ * Retries are additionally drawn from a {@link RetryBudget}, which keeps a persistent
+ * outage from multiplying the request rate. The defaults mirror the Python client's
+ * five attempts for gateway errors.
+ *
+ * Thread-safety: This class is thread-safe; instances are immutable apart from the budget.
+ *
+ * @see RetryPolicy
+ */
+public final class ExponentialBackoffRetryPolicy implements RetryPolicy {
+    private final int maxRetries;
+    private final int maxThrottledRetries;
+    private final BitSet retryStatuses;
+    private final boolean retryTimeouts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long maxRetryAfterNanos;
+    private final RetryBudget budget;
+
+    private ExponentialBackoffRetryPolicy(Builder b) {
+        this.maxRetries = b.maxRetries;
+        this.maxThrottledRetries = b.maxThrottledRetries;
+        this.retryStatuses = (BitSet) b.retryStatuses.clone();
+        this.retryTimeouts = b.retryTimeouts;
+        this.baseDelayNanos = b.baseDelay.toNanos();
+        this.maxDelayNanos = b.maxDelay.toNanos();
+        this.maxRetryAfterNanos = b.maxRetryAfter.toNanos();
+        this.budget = b.budget;
+    }
+
+    /**
+     * Creates a policy with the default settings.
+     *
+     * @return policy equivalent to {@code newBuilder().build()}
+     */
+    public static ExponentialBackoffRetryPolicy withDefaults() { return newBuilder().build(); }
+
+    /**
+     * Creates a builder preset to the default settings.
+     *
+     * @return new builder
+     */
+    public static Builder newBuilder() { return new Builder(); }
+
+    @Override
+    public void onRequest() {
+        if (budget != null) budget.deposit();
+    }
+
+    @Override
+    public long retryDelayNanos(int retry, HttpResponse response, RuntimeException error) {
+        long retryAfter = -1L;
+        if (response != null) {
+            int sc = response.getStatusCode();
+            int limit = sc == 429 ? maxThrottledRetries : sc >= 0 && retryStatuses.get(sc) ? maxRetries : 0;
+            if (retry > limit) return -1L;
+            retryAfter = parseRetryAfterNanos(response.getHeader("Retry-After"));
+            if (retryAfter > maxRetryAfterNanos) return -1L;
+        } else if (!retryTimeouts || retry > maxRetries || !isTimeout(error)) {
+            return -1L;
+        }
+        if (budget != null && !budget.tryWithdraw()) return -1L;
+        return Math.max(backoffNanos(retry), retryAfter);
+    }
+
+    private long backoffNanos(int retry) {
+        int shift = Math.min(retry - 1, 30);
+        long cap = baseDelayNanos > (maxDelayNanos >> shift) ? maxDelayNanos : baseDelayNanos << shift;
+        long half = cap >> 1;
+        return half + ThreadLocalRandom.current().nextLong(cap - half + 1);
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof HttpTimeoutException || t instanceof SocketTimeoutException || t instanceof TimeoutException) {
+                return true;
+            }
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    /**
+     * Parses a {@code Retry-After} value given either in seconds or as an HTTP date.
+     *
+     * @return requested delay in nanoseconds (0 if in the past), or -1 if absent or malformed
+     */
+    static long parseRetryAfterNanos(String value) {
+        if (value == null || value.isBlank()) return -1L;
+        String v = value.trim();
+        try {
+            long seconds = Long.parseLong(v);
+            return seconds < 0 ? -1L : Duration.ofSeconds(seconds).toNanos();
+        } catch (NumberFormatException | ArithmeticException e) {
+            // fall through to HTTP-date
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0L, Duration.between(ZonedDateTime.now(at.getZone()), at).toNanos());
+        } catch (DateTimeParseException | ArithmeticException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Builder for {@link ExponentialBackoffRetryPolicy} instances.
+     *
+     * Thread-safety: Builder instances are not thread-safe.
+     */
+    public static final class Builder {
+        private int maxRetries = 5;
+        private int maxThrottledRetries = 2;
+        private final BitSet retryStatuses = new BitSet(600);
+        private boolean retryTimeouts = true;
+        private Duration baseDelay = Duration.ofMillis(250);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private Duration maxRetryAfter = Duration.ofSeconds(60);
+        private RetryBudget budget = new RetryBudget(0.1, 2);
+
+        private Builder() {
+            retryStatuses.set(500);
+            retryStatuses.set(502);
+            retryStatuses.set(503);
+            retryStatuses.set(504);
+        }
+
+        /**
+         * Sets how often gateway errors and timeouts are retried.
+         *
+         * @param retries maximum retries after the first attempt (0 to disable)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if retries is negative
+         */
+        public Builder maxRetries(int retries) { this.maxRetries = nonNegative(retries); return this; }
+        /**
+         * Sets how often HTTP 429 responses are retried.
+         *
+         * @param retries maximum retries after the first attempt (0 to disable)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if retries is negative
+         */
+        public Builder maxThrottledRetries(int retries) { this.maxThrottledRetries = nonNegative(retries); return this; }
+        /**
+         * Replaces the set of retried server error statuses.
+         *
+         * @param statuses 5xx status codes to retry (none to retry no server errors)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if a status is not within 500-599
+         */
+        public Builder retryStatuses(int... statuses) {
+            retryStatuses.clear();
+            for (int sc : statuses) {
+                if (sc < 500 || sc > 599) throw new IllegalArgumentException("not a server error status: " + sc);
+                retryStatuses.set(sc);
+            }
+            return this;
+        }
+        /**
+         * Sets whether requests that timed out in the transport are retried.
+         *
+         * @param enabled true to retry timeouts (default)
+         * @return this builder for method chaining
+         */
+        public Builder retryTimeouts(boolean enabled) { this.retryTimeouts = enabled; return this; }
+        /**
+         * Sets the backoff before the first retry; later retries double it.
+         *
+         * @param delay base delay
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if delay is null or negative
+         */
+        public Builder baseDelay(Duration delay) { this.baseDelay = nonNegative(delay); return this; }
+        /**
+         * Sets the upper bound for the exponential backoff.
+         *
+         * @param delay maximum delay between attempts, unless Retry-After asks for more
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if delay is null or negative
+         */
+        public Builder maxDelay(Duration delay) { this.maxDelay = nonNegative(delay); return this; }
+        /**
+         * Sets the longest {@code Retry-After} that is still waited out.
+         *
+         * @param delay longest acceptable server-requested delay
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if delay is null or negative
+         */
+        public Builder maxRetryAfter(Duration delay) { this.maxRetryAfter = nonNegative(delay); return this; }
+        /**
+         * Sets the budget retries are drawn from.
+         *
+         * @param budget retry budget, or null for unlimited retries within the per-request limits
+         * @return this builder for method chaining
+         */
+        public Builder budget(RetryBudget budget) { this.budget = budget; return this; }
+
+        /**
+         * Builds the policy.
+         *
+         * @return new retry policy
+         * @throws IllegalArgumentException if baseDelay exceeds maxDelay
+         */
+        public ExponentialBackoffRetryPolicy build() {
+            if (baseDelay.compareTo(maxDelay) > 0) throw new IllegalArgumentException("baseDelay must not exceed maxDelay");
+            return new ExponentialBackoffRetryPolicy(this);
+        }
+
+        private static int nonNegative(int n) {
+            if (n < 0) throw new IllegalArgumentException("retries must be >= 0");
+            return n;
+        }
+
+        private static Duration nonNegative(Duration d) {
+            if (d == null || d.isNegative()) throw new IllegalArgumentException("duration must be >= 0");
+            return d;
+        }
+    }
+}
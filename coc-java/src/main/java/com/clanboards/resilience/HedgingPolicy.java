@@ -0,0 +1,184 @@
+package com.clanboards.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends a duplicate of a slow read so that one slow API response does not set the p99.
+ *
+ * The policy tracks the latency of the requests it governs and derives the hedge delay
+ * from a percentile of them: with the default of 0.95, roughly one request in twenty is
+ * duplicated. If the original has not answered once that delay has passed, the client
+ * sends the same request on a different token, but only if that token has a permit free
+ * right now, so hedges never queue ahead of regular traffic. Whichever copy answers
+ * first is used and the other is cancelled.
+ *
+ * Until {@code minSamples} latencies have been seen the delay is {@code maxDelay}.
+ *
+ * Thread-safety: This class is lock-free and thread-safe.
+ *
+ * @see com.clanboards.CocClient#setHedgingPolicy(HedgingPolicy)
+ */
+public final class HedgingPolicy {
+    private static final int SAMPLES = 256; // power of two
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int minSamples;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+    private final AtomicInteger recorded = new AtomicInteger();
+    private volatile long delayNanos;
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    private HedgingPolicy(Builder b) {
+        this.percentile = b.percentile;
+        this.minDelayNanos = b.minDelay.toNanos();
+        this.maxDelayNanos = b.maxDelay.toNanos();
+        this.minSamples = b.minSamples;
+        this.delayNanos = maxDelayNanos;
+    }
+
+    /**
+     * Creates a policy with the default settings.
+     *
+     * @return policy equivalent to {@code newBuilder().build()}
+     */
+    public static HedgingPolicy withDefaults() { return newBuilder().build(); }
+
+    /**
+     * Creates a builder preset to the default settings.
+     *
+     * @return new builder
+     */
+    public static Builder newBuilder() { return new Builder(); }
+
+    /**
+     * Returns how long to wait for the original request before hedging.
+     *
+     * @return hedge delay in nanoseconds
+     */
+    public long getDelayNanos() { return delayNanos; }
+
+    /**
+     * Records the latency of a completed request governed by this policy.
+     *
+     * @param latencyNanos time from sending to receiving the response
+     */
+    public void record(long latencyNanos) {
+        if (latencyNanos < 0) return;
+        int n = recorded.getAndIncrement();
+        latencies.set(n & (SAMPLES - 1), latencyNanos);
+        int count = (n & Integer.MAX_VALUE) + 1;
+        if (count >= minSamples && count % RECOMPUTE_EVERY == 0) recompute(Math.min(count, SAMPLES));
+    }
+
+    /**
+     * Counts a duplicate request that was actually sent.
+     */
+    public void onHedge() { hedges.increment(); }
+
+    /**
+     * Counts a duplicate request that answered before the original.
+     */
+    public void onHedgeWin() { hedgeWins.increment(); }
+
+    /**
+     * Returns how many duplicate requests were sent.
+     *
+     * @return hedge count since creation
+     */
+    public long getHedgeCount() { return hedges.sum(); }
+
+    /**
+     * Returns how many duplicate requests answered first.
+     *
+     * @return count of hedges that won the race
+     */
+    public long getHedgeWinCount() { return hedgeWins.sum(); }
+
+    private void recompute(int n) {
+        long[] copy = new long[n];
+        for (int i = 0; i < n; i++) copy[i] = latencies.get(i);
+        Arrays.sort(copy);
+        long p = copy[Math.min(n - 1, (int) Math.ceil(n * percentile) - 1)];
+        delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, p));
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy} instances.
+     *
+     * Thread-safety: Builder instances are not thread-safe.
+     */
+    public static final class Builder {
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(50);
+        private Duration maxDelay = Duration.ofSeconds(2);
+        private int minSamples = 20;
+
+        private Builder() { }
+
+        /**
+         * Sets the latency percentile used as the hedge delay.
+         *
+         * @param percentile quantile strictly between 0 and 1, e.g. 0.95
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if outside (0, 1)
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile > 0 && percentile < 1)) throw new IllegalArgumentException("percentile must be within (0, 1)");
+            this.percentile = percentile;
+            return this;
+        }
+        /**
+         * Sets the shortest hedge delay, however fast recent responses were.
+         *
+         * @param delay lower bound
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if null or negative
+         */
+        public Builder minDelay(Duration delay) { this.minDelay = nonNegative(delay); return this; }
+        /**
+         * Sets the longest hedge delay, also used until enough latencies are known.
+         *
+         * @param delay upper bound
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if null or negative
+         */
+        public Builder maxDelay(Duration delay) { this.maxDelay = nonNegative(delay); return this; }
+        /**
+         * Sets how many latencies must be recorded before the percentile is used.
+         *
+         * @param samples minimum sample count (must be > 0)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if not positive
+         */
+        public Builder minSamples(int samples) {
+            if (samples <= 0) throw new IllegalArgumentException("minSamples must be > 0");
+            this.minSamples = samples;
+            return this;
+        }
+
+        /**
+         * Builds the policy.
+         *
+         * @return new hedging policy
+         * @throws IllegalArgumentException if minDelay exceeds maxDelay
+         */
+        public HedgingPolicy build() {
+            if (minDelay.compareTo(maxDelay) > 0) throw new IllegalArgumentException("minDelay must not exceed maxDelay");
+            return new HedgingPolicy(this);
+        }
+
+        private static Duration nonNegative(Duration d) {
+            if (d == null || d.isNegative()) throw new IllegalArgumentException("duration must be >= 0");
+            return d;
+        }
+    }
+}
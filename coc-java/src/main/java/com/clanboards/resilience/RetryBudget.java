@@ -0,0 +1,75 @@
+package com.clanboards.resilience;
+
+import com.clanboards.throttle.RateLimiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps retries to a fraction of regular traffic so that an outage does not multiply load.
+ *
+ * Every request deposits {@code ratio} of a retry into the budget and every retry
+ * withdraws a whole one, so at most about {@code ratio} extra requests are sent per
+ * original request however many attempts each policy would allow. A small floor of
+ * retries per second is always granted so that a quiet client can still ride out a
+ * blip. Deposits are capped at {@link #MAX_BALANCE} retries to stop a long healthy
+ * period from funding a retry storm later.
+ *
+ * Thread-safety: This class is lock-free and thread-safe.
+ */
+public final class RetryBudget {
+    /** Largest number of retries that can be saved up. */
+    public static final int MAX_BALANCE = 100;
+
+    private static final long SCALE = 1000; // balance kept in thousandths of a retry
+
+    private final long depositMillis;
+    private final RateLimiter floor;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param ratio retries earned per request, e.g. 0.1 for at most 10% extra load (0 to 1)
+     * @param minRetriesPerSecond retries always allowed regardless of the balance (0 for none)
+     * @throws IllegalArgumentException if ratio is outside [0, 1] or minRetriesPerSecond is negative
+     */
+    public RetryBudget(double ratio, int minRetriesPerSecond) {
+        if (!(ratio >= 0 && ratio <= 1)) throw new IllegalArgumentException("ratio must be within [0, 1]");
+        if (minRetriesPerSecond < 0) throw new IllegalArgumentException("minRetriesPerSecond must be >= 0");
+        this.depositMillis = Math.round(ratio * SCALE);
+        this.floor = minRetriesPerSecond > 0 ? new RateLimiter(minRetriesPerSecond, 1000) : null;
+    }
+
+    /**
+     * Credits the budget for one request.
+     */
+    public void deposit() {
+        if (depositMillis == 0) return;
+        while (true) {
+            long b = balance.get();
+            long next = Math.min(b + depositMillis, MAX_BALANCE * SCALE);
+            if (next == b || balance.compareAndSet(b, next)) return;
+        }
+    }
+
+    /**
+     * Takes one retry from the budget if available.
+     *
+     * @return true if the retry may be sent
+     */
+    public boolean tryWithdraw() {
+        if (floor != null && floor.tryAcquire()) return true;
+        while (true) {
+            long b = balance.get();
+            if (b < SCALE) return false;
+            if (balance.compareAndSet(b, b - SCALE)) return true;
+        }
+    }
+
+    /**
+     * Returns the number of whole retries currently saved up, excluding the per-second floor.
+     *
+     * @return available retries
+     */
+    public long getAvailable() { return balance.get() / SCALE; }
+}
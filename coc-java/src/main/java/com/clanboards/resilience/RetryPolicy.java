@@ -0,0 +1,41 @@
+package com.clanboards.resilience;
+
+import com.clanboards.http.HttpResponse;
+
+/**
+ * Decides whether a failed request attempt is repeated and after what delay.
+ *
+ * {@link com.clanboards.CocClient} consults the policy after every attempt that did not
+ * produce a usable response: either the transport threw, or the server answered with a
+ * status the policy may consider transient (5xx, 429). Every retry takes a fresh
+ * rate-limit permit; the permit of the failed attempt has already been returned, and a
+ * 429 has already penalised its token.
+ *
+ * Implementations must be thread-safe; one policy instance serves all requests of a client.
+ *
+ * @see ExponentialBackoffRetryPolicy
+ * @see com.clanboards.CocClient#setRetryPolicy(RetryPolicy)
+ */
+public interface RetryPolicy {
+    /** Policy that never retries. */
+    RetryPolicy NONE = (retry, response, error) -> -1L;
+
+    /**
+     * Called once for each logical request before its first attempt.
+     *
+     * Policies with a retry budget use this to earn retry credit in proportion to traffic.
+     */
+    default void onRequest() {}
+
+    /**
+     * Returns how long to wait before retrying, or a negative value to give up.
+     *
+     * Exactly one of {@code response} and {@code error} is non-null.
+     *
+     * @param retry number of the retry being considered, starting at 1
+     * @param response response of the failed attempt, or null if the transport threw
+     * @param error exception thrown by the transport, or null if a response was received
+     * @return delay in nanoseconds before the next attempt, or a negative value to stop
+     */
+    long retryDelayNanos(int retry, HttpResponse response, RuntimeException error);
+}
@@ -0,0 +1,25 @@
+/**
+ * Policies that keep a client working through transient API failures.
+ *
+ * <p>{@link com.clanboards.resilience.RetryPolicy} decides whether a failed attempt is
+ * repeated; {@link com.clanboards.resilience.ExponentialBackoffRetryPolicy} is the
+ * standard implementation, with exponential backoff, jitter, {@code Retry-After}
+ * support and a shared {@link com.clanboards.resilience.RetryBudget}.
+ *
+ * <p>{@link com.clanboards.resilience.CircuitBreaker} stops requests altogether during
+ * maintenance, failing fast with {@link com.clanboards.exceptions.MaintenanceException}
+ * and probing with a single request until the API answers again.
+ *
+ * <p>{@link com.clanboards.resilience.HedgingPolicy} cuts tail latency of war reads by
+ * sending a duplicate on another token once the original is slower than usual.
+ *
+ * <pre>{@code
+ * client.setRetryPolicy(ExponentialBackoffRetryPolicy.newBuilder()
+ *     .maxRetries(3)
+ *     .budget(new RetryBudget(0.2, 5))
+ *     .build());
+ * }</pre>
+ *
+ * @see com.clanboards.CocClient#setRetryPolicy(com.clanboards.resilience.RetryPolicy)
+ */
+package com.clanboards.resilience;
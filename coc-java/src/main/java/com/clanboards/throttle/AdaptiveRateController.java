@@ -0,0 +1,234 @@
+package com.clanboards.throttle;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Additive-increase / multiplicative-decrease (AIMD) control of the per-token request rate.
+ *
+ * The controller is fed the outcome of every response and adjusts once per
+ * {@code window}. A window without throttling whose p99 latency stays under the target
+ * raises the rate by {@code increase} permits per second. HTTP 429 cuts the rate by the
+ * {@code decrease} factor immediately, at most once per window so that a burst of 429s
+ * from requests already in flight counts as one signal. A p99 above the target cuts it
+ * at the end of the window. The rate always stays within {@code [minRate, maxRate]}.
+ *
+ * Latencies are kept in a fixed ring of recent samples; the percentile is computed once
+ * per window from a sorted copy, so recording a response costs two atomic operations.
+ *
+ * Thread-safety: This class is lock-free and thread-safe.
+ *
+ * @see com.clanboards.CocClient#setAdaptiveRateControl(AdaptiveRateController)
+ */
+public final class AdaptiveRateController {
+    private static final int SAMPLES = 1024; // power of two
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increase;
+    private final double decrease;
+    private final long latencyTargetNanos;
+    private final long windowNanos;
+
+    private final AtomicLong rateBits;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+    private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+    private final AtomicInteger sampleCount = new AtomicInteger();
+    private volatile long lastP99Nanos = -1L;
+
+    private AdaptiveRateController(Builder b) {
+        this.minRate = b.minRate;
+        this.maxRate = b.maxRate;
+        this.increase = b.increase;
+        this.decrease = b.decrease;
+        this.latencyTargetNanos = b.latencyTarget.toNanos();
+        this.windowNanos = b.window.toNanos();
+        double initial = Double.isNaN(b.initialRate) ? b.minRate : b.initialRate;
+        this.rateBits = new AtomicLong(Double.doubleToLongBits(Math.min(maxRate, Math.max(minRate, initial))));
+    }
+
+    /**
+     * Creates a builder for a controller bounded by the given per-token rates.
+     *
+     * @param minRate lowest rate per token, in requests per second (must be > 0)
+     * @param maxRate highest rate per token, in requests per second (must be >= minRate)
+     * @return new builder
+     * @throws IllegalArgumentException if the bounds are invalid
+     */
+    public static Builder newBuilder(double minRate, double maxRate) {
+        if (!(minRate > 0) || !(maxRate >= minRate)) {
+            throw new IllegalArgumentException("require 0 < minRate <= maxRate");
+        }
+        return new Builder(minRate, maxRate);
+    }
+
+    /**
+     * Records the outcome of one response and adjusts the rate if a decision is due.
+     *
+     * @param statusCode HTTP status, or 0 if no response was received
+     * @param latencyNanos time the exchange took, or a negative value if unknown
+     * @return true if the rate changed and should be applied to the limiters
+     */
+    public boolean onResponse(int statusCode, long latencyNanos) {
+        long now = System.nanoTime();
+        boolean changed = false;
+        if (statusCode == 429) {
+            changed = decreaseOnce(now);
+        } else if (latencyNanos >= 0 && statusCode != 0) {
+            latencies.set(sampleCount.getAndIncrement() & (SAMPLES - 1), latencyNanos);
+        }
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            changed |= endWindow(now, start);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the current per-token rate.
+     *
+     * @return requests per second allowed for each token
+     */
+    public double getRate() {
+        return Double.longBitsToDouble(rateBits.get());
+    }
+
+    /**
+     * Returns the p99 latency measured over the last completed window.
+     *
+     * @return p99 latency, or null if no window with samples has completed yet
+     */
+    public Duration getLastP99() {
+        long p = lastP99Nanos;
+        return p < 0 ? null : Duration.ofNanos(p);
+    }
+
+    /**
+     * Returns the lower bound of the rate.
+     *
+     * @return minimum requests per second per token
+     */
+    public double getMinRate() { return minRate; }
+
+    /**
+     * Returns the upper bound of the rate.
+     *
+     * @return maximum requests per second per token
+     */
+    public double getMaxRate() { return maxRate; }
+
+    private boolean endWindow(long now, long start) {
+        int n = Math.min(sampleCount.getAndSet(0), SAMPLES);
+        if (n == 0) return false; // idle: no evidence either way
+        boolean decreasedRecently = lastDecrease.get() - start >= 0;
+        long[] copy = new long[n];
+        for (int i = 0; i < n; i++) copy[i] = latencies.get(i);
+        Arrays.sort(copy);
+        long p99 = copy[Math.min(n - 1, (int) Math.ceil(n * 0.99) - 1)];
+        lastP99Nanos = p99;
+        if (decreasedRecently) return false;
+        if (p99 > latencyTargetNanos) return decreaseOnce(now);
+        return update(r -> Math.min(maxRate, r + increase));
+    }
+
+    private boolean decreaseOnce(long now) {
+        long last = lastDecrease.get();
+        if (now - last < windowNanos || !lastDecrease.compareAndSet(last, now)) return false;
+        return update(r -> Math.max(minRate, r * decrease));
+    }
+
+    private boolean update(DoubleUnaryOperator f) {
+        while (true) {
+            long bits = rateBits.get();
+            double next = f.applyAsDouble(Double.longBitsToDouble(bits));
+            long nextBits = Double.doubleToLongBits(next);
+            if (nextBits == bits) return false;
+            if (rateBits.compareAndSet(bits, nextBits)) return true;
+        }
+    }
+
+    /**
+     * Builder for {@link AdaptiveRateController} instances.
+     *
+     * Thread-safety: Builder instances are not thread-safe.
+     */
+    public static final class Builder {
+        private final double minRate;
+        private final double maxRate;
+        private double initialRate = Double.NaN;
+        private double increase = 1.0;
+        private double decrease = 0.5;
+        private Duration latencyTarget = Duration.ofSeconds(1);
+        private Duration window = Duration.ofSeconds(1);
+
+        private Builder(double minRate, double maxRate) {
+            this.minRate = minRate;
+            this.maxRate = maxRate;
+        }
+
+        /**
+         * Sets the starting rate, clamped to the bounds.
+         *
+         * @param rate initial requests per second per token (default: the minimum)
+         * @return this builder for method chaining
+         */
+        public Builder initialRate(double rate) { this.initialRate = rate; return this; }
+        /**
+         * Sets how much the rate grows after each healthy window.
+         *
+         * @param permitsPerSecond additive increase (must be > 0)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if not positive
+         */
+        public Builder increase(double permitsPerSecond) {
+            if (!(permitsPerSecond > 0)) throw new IllegalArgumentException("increase must be > 0");
+            this.increase = permitsPerSecond;
+            return this;
+        }
+        /**
+         * Sets the factor the rate is multiplied by when backing off.
+         *
+         * @param factor multiplicative decrease, strictly between 0 and 1 (default 0.5)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if outside (0, 1)
+         */
+        public Builder decrease(double factor) {
+            if (!(factor > 0 && factor < 1)) throw new IllegalArgumentException("decrease must be within (0, 1)");
+            this.decrease = factor;
+            return this;
+        }
+        /**
+         * Sets the p99 latency above which the rate is reduced.
+         *
+         * @param target latency target (must be positive)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if null, zero or negative
+         */
+        public Builder latencyTarget(Duration target) { this.latencyTarget = positive(target); return this; }
+        /**
+         * Sets how often the rate is reconsidered.
+         *
+         * @param window adjustment period (must be positive)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if null, zero or negative
+         */
+        public Builder window(Duration window) { this.window = positive(window); return this; }
+
+        /**
+         * Builds the controller.
+         *
+         * @return new controller starting at the initial rate
+         */
+        public AdaptiveRateController build() { return new AdaptiveRateController(this); }
+
+        private static Duration positive(Duration d) {
+            if (d == null || d.isZero() || d.isNegative()) throw new IllegalArgumentException("duration must be positive");
+            return d;
+        }
+    }
+}
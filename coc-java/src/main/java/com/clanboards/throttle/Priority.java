@@ -0,0 +1,20 @@
+package com.clanboards.throttle;
+
+/**
+ * Scheduling class of a request waiting for rate limit capacity.
+ *
+ * When permits are scarce, waiting requests are released in priority order, except
+ * that {@link #BACKGROUND} work keeps a guaranteed minimum share so a busy interactive
+ * workload cannot stall it completely.
+ *
+ * @see com.clanboards.CocClient#withPriority(Priority)
+ * @see com.clanboards.token.RequestDispatcher
+ */
+public enum Priority {
+    /** User-facing lookups that someone is waiting on. */
+    INTERACTIVE,
+    /** Regular traffic; the default for a client. */
+    NORMAL,
+    /** Crawls and other bulk work that can tolerate delay. */
+    BACKGROUND
+}
@@ -1,27 +1,33 @@
 package com.clanboards.throttle;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Thread-safe sliding-window rate limiter for API request throttling.
+ * Lock-free token-bucket rate limiter for API request throttling.
  *
- * This implementation uses a sliding window algorithm to enforce rate limits,
- * allowing a maximum number of requests within a specified time window.
- * Requests that would exceed the limit are blocked until capacity becomes available.
+ * This implementation uses the generic cell rate algorithm (GCRA): the whole state is
+ * a single "theoretical arrival time" held in an {@link AtomicLong} and advanced with
+ * compare-and-set, so permits are granted without locks and without allocating. The
+ * limiter admits a steady rate of {@code maxRequests} per window and allows a burst of
+ * up to {@code maxRequests} after an idle period, like a token bucket of that capacity.
  *
- * The limiter is designed for high-throughput scenarios and provides fair
- * request distribution over time. It's particularly useful for respecting
- * API rate limits while maximizing throughput.
+ * Waiting callers park with nanosecond precision rather than sleeping in whole
+ * milliseconds, and asynchronous callers can use {@link #reserve()} to obtain a delay
+ * instead of blocking at all.
+ *
+ * The rate can be changed while the limiter is in use with {@link #setRate(double)};
+ * the burst size stays the same number of permits.
  *
  * Thread-safety: This class is thread-safe and designed for concurrent use.
  *
  * @see CocClient
  */
 public final class RateLimiter {
-    private final int maxRequests;
-    private final long windowNanos;
-    private final Deque<Long> timestamps = new ArrayDeque<>();
+    private volatile long intervalNanos; // emission interval between permits at steady state
+    private final long burstPermits;     // extra permits allowed after idling (maxRequests - 1)
+    private final AtomicLong theoreticalArrival;
 
     /**
      * Creates a rate limiter with the specified capacity and time window.
@@ -33,44 +39,166 @@ public final class RateLimiter {
     public RateLimiter(int maxRequestsPerWindow, long windowMillis) {
         if (maxRequestsPerWindow <= 0) throw new IllegalArgumentException("maxRequestsPerWindow must be > 0");
         if (windowMillis <= 0) throw new IllegalArgumentException("windowMillis must be > 0");
-        this.maxRequests = maxRequestsPerWindow;
-        this.windowNanos = windowMillis * 1_000_000L;
+        long windowNanos = windowMillis * 1_000_000L;
+        this.intervalNanos = Math.max(1, windowNanos / maxRequestsPerWindow);
+        this.burstPermits = maxRequestsPerWindow - 1;
+        // Start with a full bucket
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - intervalNanos * burstPermits);
     }
 
     /**
      * Acquires a permit to make a request, blocking if necessary.
      *
-     * This method blocks the calling thread until a request slot becomes available
-     * within the rate limit. Once a slot is acquired, the request is recorded
-     * and the method returns immediately.
-     *
-     * The method uses efficient sleeping to avoid busy-waiting while respecting
-     * the sliding window constraints.
+     * This method blocks the calling thread until its reserved slot falls due.
+     * The permit is recorded immediately, so concurrent callers are served in the
+     * order in which they reserved.
      *
      * @throws RuntimeException if the thread is interrupted while waiting
      */
     public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) parkUntil(System.nanoTime() + waitNanos);
+    }
+
+    /**
+     * Acquires a permit only if one is available immediately.
+     *
+     * @return true if a permit was acquired, false if the caller would have to wait
+     */
+    public boolean tryAcquire() {
+        return tryReserve(0L) == 0L;
+    }
+
+    /**
+     * Acquires a permit if one becomes available within the given timeout.
+     *
+     * If the permit cannot be granted within the timeout, no capacity is consumed
+     * and the method returns immediately without waiting.
+     *
+     * @param timeout maximum time to wait for a permit
+     * @param unit unit of the timeout argument
+     * @return true if a permit was acquired, false if the timeout would be exceeded
+     * @throws RuntimeException if the thread is interrupted while waiting
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) {
+        long waitNanos = tryReserve(Math.max(0L, unit.toNanos(timeout)));
+        if (waitNanos < 0) return false;
+        if (waitNanos > 0) parkUntil(System.nanoTime() + waitNanos);
+        return true;
+    }
+
+    /**
+     * Reserves the next free request slot without blocking.
+     *
+     * The slot is recorded immediately, possibly in the future, and the caller is
+     * expected to issue its request once the returned delay has elapsed. This lets
+     * asynchronous callers schedule work against the limiter instead of parking a
+     * thread in {@link #acquire()}.
+     *
+     * @return nanoseconds to wait before the reserved slot may be used (0 if immediate)
+     */
+    public long reserve() {
+        return tryReserve(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns how far this limiter's schedule runs ahead of the current time.
+     *
+     * Zero means the bucket is full; the value grows by one emission interval per
+     * permit handed out and shrinks as time passes. Lower values therefore indicate
+     * more remaining capacity, which makes the backlog a cheap load metric when
+     * choosing between several limiters.
+     *
+     * @return backlog in nanoseconds (never negative)
+     */
+    public long getBacklogNanos() {
+        return Math.max(0L, theoreticalArrival.get() - System.nanoTime());
+    }
+
+    /**
+     * Returns how long a caller would have to wait for a permit right now.
+     *
+     * @return nanoseconds until the next permit is free (0 if one is free now)
+     */
+    public long getWaitNanos() {
+        long interval = intervalNanos;
+        return Math.max(0L, theoreticalArrival.get() - interval * burstPermits - System.nanoTime());
+    }
+
+    /**
+     * Returns the steady-state spacing between permits.
+     *
+     * @return emission interval in nanoseconds
+     */
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * Changes the steady-state rate.
+     *
+     * Permits already reserved keep their slots; the new spacing applies from the next
+     * reservation on. The burst allowance stays {@code maxRequestsPerWindow - 1} permits,
+     * so its duration scales with the new interval.
+     *
+     * @param permitsPerSecond new rate (must be > 0)
+     * @throws IllegalArgumentException if permitsPerSecond is not positive
+     */
+    public void setRate(double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) throw new IllegalArgumentException("permitsPerSecond must be > 0");
+        this.intervalNanos = Math.max(1L, Math.round(1e9 / permitsPerSecond));
+    }
+
+    /**
+     * Returns the steady-state rate.
+     *
+     * @return permits per second
+     */
+    public double getRate() {
+        return 1e9 / intervalNanos;
+    }
+
+    /**
+     * Pushes the limiter's schedule back so that no permit is granted for the given time.
+     *
+     * Used to back off a key after the server signalled throttling (HTTP 429). Waiting
+     * reservations are not revoked; the penalty applies to subsequent ones.
+     *
+     * @param nanos minimum time from now before the next permit becomes available
+     */
+    public void penalize(long nanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long target = System.nanoTime() + nanos + intervalNanos * burstPermits;
+            if (target - tat <= 0 || theoreticalArrival.compareAndSet(tat, target)) return;
+        }
+    }
+
+    /**
+     * Reserves a slot only if it falls due within {@code maxWaitNanos}.
+     *
+     * @return delay in nanoseconds until the reserved slot, or -1 if nothing was reserved
+     */
+    private long tryReserve(long maxWaitNanos) {
         while (true) {
+            long interval = intervalNanos;
             long now = System.nanoTime();
-            // Drop expired
-            while (!timestamps.isEmpty() && now - timestamps.peekFirst() >= windowNanos) {
-                timestamps.removeFirst();
-            }
-            if (timestamps.size() < maxRequests) {
-                timestamps.addLast(now);
-                return;
-            }
-            // Sleep a tiny amount to avoid busy spin; compute minimal wait until next expiry
-            long oldest = timestamps.peekFirst();
-            long remainingNanos = windowNanos - (now - oldest);
-            long sleepMillis = Math.max(1, remainingNanos / 1_000_000L);
-            try {
-                Thread.sleep(sleepMillis);
-            } catch (InterruptedException e) {
+            long tat = theoreticalArrival.get();
+            long waitNanos = Math.max(0L, tat - interval * burstPermits - now);
+            if (waitNanos > maxWaitNanos) return -1L;
+            long next = (tat - now > 0 ? tat : now) + interval;
+            if (theoreticalArrival.compareAndSet(tat, next)) return waitNanos;
+        }
+    }
+
+    private void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
                 Thread.currentThread().interrupt();
-                throw new RuntimeException("Interrupted while throttling", e);
+                throw new RuntimeException("Interrupted while throttling", new InterruptedException());
             }
         }
     }
 }
-
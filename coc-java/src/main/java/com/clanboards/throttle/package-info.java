@@ -2,12 +2,14 @@
  * Rate limiting utilities for managing API request throughput.
  *
  * <p>This package provides thread-safe rate limiting implementations that help
- * respect API rate limits while maximizing throughput. The rate limiter uses
- * a sliding window algorithm to provide fair distribution of requests over time.
+ * respect API rate limits while maximizing throughput. The rate limiter is a
+ * lock-free token bucket (GCRA) that spreads requests evenly over time.
  *
  * <h2>Core Components</h2>
  * <ul>
- * <li>{@link com.clanboards.throttle.RateLimiter} - Sliding window rate limiter</li>
+ * <li>{@link com.clanboards.throttle.RateLimiter} - Lock-free token-bucket rate limiter</li>
+ * <li>{@link com.clanboards.throttle.AdaptiveRateController} - AIMD rate control driven by 429s and p99 latency</li>
+ * <li>{@link com.clanboards.throttle.Priority} - Lanes in which requests wait for capacity</li>
  * </ul>
  *
  * <h2>Usage</h2>
@@ -22,6 +24,9 @@
  * // Acquire permit before making request
  * limiter.acquire();
  * makeApiCall();
+ *
+ * // Or reserve without blocking and schedule the call after the delay
+ * long delayNanos = limiter.reserve();
  * }</pre>
  *
  * <h2>Thread Safety</h2>
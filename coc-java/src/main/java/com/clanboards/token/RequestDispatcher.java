@@ -0,0 +1,384 @@
+package com.clanboards.token;
+
+import com.clanboards.throttle.Priority;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Priority lanes in front of a {@link TokenScheduler}.
+ *
+ * {@link TokenScheduler#reserve()} books permits first come, first served, so a request
+ * issued behind a few thousand crawl requests waits for all of them. The dispatcher
+ * instead hands out only permits that are free right now: a request is granted at once
+ * if nothing is waiting and a key has capacity, and otherwise joins the lane for its
+ * {@link Priority}. Whenever capacity frees up, waiting requests are released from the
+ * highest non-empty lane.
+ *
+ * Strict priority would let a steady interactive load starve background work, so
+ * {@link Priority#BACKGROUND} is guaranteed {@code backgroundShare} of the permits
+ * granted while it has requests waiting.
+ *
+ * Within a lane, requests are grouped by {@link Tenant} and the tenants take turns by
+ * deficit round robin: each turn adds the tenant's weight to its deficit, and it is
+ * served while the deficit covers a permit, so contended capacity is shared in
+ * proportion to weight however many requests each tenant queues. A tenant over its
+ * quota is skipped until the quota allows another request. Each tenant's own requests
+ * are served in arrival order.
+ *
+ * Thread-safety: This class is thread-safe. Lanes are guarded by the dispatcher's
+ * monitor; futures are completed outside it.
+ *
+ * @see com.clanboards.CocClient#withPriority(Priority)
+ * @see com.clanboards.CocClient#forTenant(Tenant)
+ */
+public final class RequestDispatcher {
+    /** Share of permits background work receives while higher lanes are busy. */
+    public static final double DEFAULT_BACKGROUND_SHARE = 0.1;
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final TokenScheduler scheduler;
+    private final Tenant defaultTenant = Tenant.newBuilder("default").build();
+    private final Lane[] lanes;
+    private volatile double backgroundShare;
+    private double backgroundCredit; // guarded by this
+    private int waiting;             // guarded by this
+    private boolean drainScheduled;  // guarded by this
+    private long drainAt;            // guarded by this; when the scheduled drain runs
+    private long drainGeneration;    // guarded by this; only the latest scheduled drain runs
+    private long turn;               // guarded by this; numbers calls to eligible()
+
+    /**
+     * Creates a dispatcher with the default background share.
+     *
+     * @param scheduler scheduler that owns the tokens and their rate limits
+     */
+    public RequestDispatcher(TokenScheduler scheduler) {
+        this(scheduler, DEFAULT_BACKGROUND_SHARE);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param scheduler scheduler that owns the tokens and their rate limits
+     * @param backgroundShare fraction of permits reserved for waiting background work,
+     *        within [0, 1)
+     * @throws IllegalArgumentException if backgroundShare is out of range
+     */
+    public RequestDispatcher(TokenScheduler scheduler, double backgroundShare) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.lanes = new Lane[PRIORITIES.length];
+        for (int i = 0; i < lanes.length; i++) lanes[i] = new Lane();
+        setBackgroundShare(backgroundShare);
+    }
+
+    /**
+     * Requests a permit for the dispatcher's default tenant without blocking.
+     *
+     * @param priority lane to wait in
+     * @return future reservation, already complete if capacity was free
+     * @see #reserve(Priority, Tenant)
+     */
+    public CompletableFuture<TokenScheduler.Reservation> reserve(Priority priority) {
+        return reserve(priority, defaultTenant);
+    }
+
+    /**
+     * Requests a permit without blocking.
+     *
+     * The returned future completes with a zero-delay reservation once the request's
+     * turn has come; the caller must report its outcome through
+     * {@link TokenScheduler#complete(TokenScheduler.Reservation, int)}. Cancelling the
+     * future withdraws the request from its lane.
+     *
+     * Requests granted from the queue are completed one after another on the
+     * dispatcher's timer thread, so a caller that starts blocking work on the grant
+     * should continue asynchronously, e.g. with {@code whenCompleteAsync}.
+     *
+     * @param priority lane to wait in
+     * @param tenant tenant the request is made for
+     * @return future reservation, already complete if capacity and quota were free
+     */
+    public CompletableFuture<TokenScheduler.Reservation> reserve(Priority priority, Tenant tenant) {
+        Objects.requireNonNull(priority, "priority");
+        Objects.requireNonNull(tenant, "tenant");
+        CompletableFuture<TokenScheduler.Reservation> waiter = new CompletableFuture<>();
+        long delay;
+        long generation;
+        synchronized (this) {
+            if (waiting == 0 && tenant.quotaWaitNanos() == 0) {
+                TokenScheduler.Reservation r = scheduler.tryReserve();
+                if (r != null) {
+                    tenant.chargeQuota();
+                    tenant.onGranted();
+                    return CompletableFuture.completedFuture(r);
+                }
+            }
+            lanes[priority.ordinal()].add(tenant, waiter);
+            waiting++;
+            // others may be held back by their quota, so this request can be due sooner
+            delay = Math.max(scheduler.getWaitNanos(), tenant.quotaWaitNanos());
+            long at = System.nanoTime() + delay;
+            if (drainScheduled && at - drainAt >= 0) return waiter;
+            generation = scheduleAt(at);
+        }
+        scheduleDrain(delay, generation);
+        return waiter;
+    }
+
+    /**
+     * Reserves a spare permit on a key other than the given one, for an optional
+     * duplicate request made for the tenant.
+     *
+     * Never queues: the permit is only taken if no request is waiting in any lane and
+     * the tenant's quota has room, and it is charged to the tenant like a regular one.
+     *
+     * @param tenant tenant the duplicate is made for
+     * @param exclude reservation whose key must not be used
+     * @return reservation with zero delay, or null if no capacity is spare
+     * @see TokenScheduler#tryReserveSpare(TokenScheduler.Reservation)
+     */
+    public synchronized TokenScheduler.Reservation tryReserveSpare(Tenant tenant, TokenScheduler.Reservation exclude) {
+        Objects.requireNonNull(tenant, "tenant");
+        if (waiting > 0 || tenant.quotaWaitNanos() > 0) return null;
+        TokenScheduler.Reservation r = scheduler.tryReserveSpare(exclude);
+        if (r != null) {
+            tenant.chargeQuota();
+            tenant.onGranted();
+        }
+        return r;
+    }
+
+    /**
+     * Requests a permit for the dispatcher's default tenant and blocks until it is granted.
+     *
+     * @param priority lane to wait in
+     * @return reservation that may be used immediately
+     * @throws RuntimeException if the thread is interrupted while waiting
+     */
+    public TokenScheduler.Reservation acquire(Priority priority) {
+        return acquire(priority, defaultTenant);
+    }
+
+    /**
+     * Requests a permit and blocks until it is granted.
+     *
+     * @param priority lane to wait in
+     * @param tenant tenant the request is made for
+     * @return reservation that may be used immediately
+     * @throws RuntimeException if the thread is interrupted while waiting
+     */
+    public TokenScheduler.Reservation acquire(Priority priority, Tenant tenant) {
+        CompletableFuture<TokenScheduler.Reservation> waiter = reserve(priority, tenant);
+        try {
+            return waiter.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!waiter.cancel(false)) scheduler.complete(waiter.join(), 0); // granted meanwhile
+            throw new RuntimeException("Interrupted while throttling", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause()); // waiters are never failed
+        }
+    }
+
+    /**
+     * Changes the share of permits guaranteed to background work.
+     *
+     * @param share fraction within [0, 1); 0 gives background work only idle capacity
+     * @throws IllegalArgumentException if share is out of range
+     */
+    public void setBackgroundShare(double share) {
+        if (!(share >= 0 && share < 1)) throw new IllegalArgumentException("backgroundShare must be within [0, 1)");
+        this.backgroundShare = share;
+    }
+
+    /**
+     * Returns the share of permits guaranteed to background work.
+     *
+     * @return fraction within [0, 1)
+     */
+    public double getBackgroundShare() { return backgroundShare; }
+
+    /**
+     * Returns how many requests are waiting in a lane.
+     *
+     * @param priority lane to inspect
+     * @return number of waiting requests, including ones cancelled but not yet removed
+     */
+    public synchronized int getWaiting(Priority priority) {
+        return lanes[priority.ordinal()].size;
+    }
+
+    /**
+     * Returns the scheduler the permits come from.
+     *
+     * @return underlying token scheduler
+     */
+    public TokenScheduler getScheduler() { return scheduler; }
+
+    private long scheduleAt(long at) { // caller holds the monitor
+        drainScheduled = true;
+        drainAt = at;
+        return ++drainGeneration;
+    }
+
+    private void scheduleDrain(long delayNanos, long generation) {
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> drain(generation));
+    }
+
+    private void drain(long generation) {
+        List<CompletableFuture<TokenScheduler.Reservation>> waiters = new ArrayList<>();
+        List<TokenScheduler.Reservation> grants = new ArrayList<>();
+        long delay = -1L;
+        long nextGeneration = 0L;
+        synchronized (this) {
+            if (generation != drainGeneration) return; // a sooner drain was scheduled since
+            long quotaWait = Long.MAX_VALUE;
+            while (waiting > 0 && scheduler.getWaitNanos() == 0) {
+                int background = Priority.BACKGROUND.ordinal();
+                int lane = -1;
+                TenantQueue next = null;
+                if (backgroundCredit >= 1.0) next = eligible(lanes[lane = background]);
+                for (int i = 0; next == null && i < lanes.length; i++) next = eligible(lanes[lane = i]);
+                if (next == null) { // everyone waiting is over quota
+                    quotaWait = nextQuotaNanos();
+                    break;
+                }
+                TokenScheduler.Reservation r = scheduler.tryReserve();
+                if (r == null) break;
+                waiters.add(lanes[lane].poll(next));
+                grants.add(r);
+                waiting--;
+                next.tenant.chargeQuota();
+                next.tenant.onGranted();
+                granted(lane);
+            }
+            drainScheduled = false;
+            if (waiting > 0) {
+                long capacity = scheduler.getWaitNanos();
+                delay = quotaWait == Long.MAX_VALUE ? capacity : Math.max(capacity, quotaWait);
+                nextGeneration = scheduleAt(System.nanoTime() + delay);
+            }
+        }
+        if (delay >= 0) scheduleDrain(delay, nextGeneration);
+        for (int i = 0; i < waiters.size(); i++) {
+            if (!waiters.get(i).complete(grants.get(i))) scheduler.complete(grants.get(i), 0);
+        }
+    }
+
+    /**
+     * Returns the tenant whose request in this lane goes next, advancing the round robin
+     * as needed, or null if the lane has no request that may go now.
+     */
+    private TenantQueue eligible(Lane lane) {
+        long stamp = ++turn;
+        int blocked = 0;
+        while (lane.active.size() > blocked) {
+            TenantQueue q = lane.active.peek();
+            if (q.blockedTurn == stamp) { // already found over quota during this call
+                lane.active.add(lane.active.poll());
+                continue;
+            }
+            waiting -= lane.purge(q);
+            if (q.waiters.isEmpty()) {
+                lane.remove(q);
+                continue;
+            }
+            if (q.tenant.quotaWaitNanos() > 0) {
+                q.blockedTurn = stamp;
+                blocked++;
+                lane.active.add(lane.active.poll());
+                continue;
+            }
+            if (q.deficit >= 1.0) return q;
+            q.deficit += q.tenant.getWeight(); // its turn is over; credit the next one
+            lane.active.add(lane.active.poll());
+        }
+        return null;
+    }
+
+    private long nextQuotaNanos() {
+        long min = Long.MAX_VALUE;
+        for (Lane lane : lanes) {
+            for (TenantQueue q : lane.active) min = Math.min(min, q.tenant.quotaWaitNanos());
+        }
+        return min;
+    }
+
+    private void granted(int lane) {
+        int background = Priority.BACKGROUND.ordinal();
+        if (lane == background) {
+            backgroundCredit = Math.max(0.0, backgroundCredit - 1.0);
+        } else if (lanes[background].size == 0) {
+            backgroundCredit = 0.0; // no banking while there is nothing to protect
+        } else {
+            double share = backgroundShare;
+            backgroundCredit += share / (1.0 - share);
+        }
+    }
+
+    /** One priority lane: a round robin over the tenants with requests waiting in it. */
+    private static final class Lane {
+        final ArrayDeque<TenantQueue> active = new ArrayDeque<>();
+        final Map<Tenant, TenantQueue> byTenant = new HashMap<>();
+        int size; // waiting requests, including cancelled ones not yet purged
+
+        void add(Tenant tenant, CompletableFuture<TokenScheduler.Reservation> waiter) {
+            TenantQueue q = byTenant.get(tenant);
+            if (q == null) {
+                q = new TenantQueue(tenant);
+                byTenant.put(tenant, q);
+                active.add(q);
+            }
+            q.waiters.add(waiter);
+            tenant.onQueued();
+            size++;
+        }
+
+        /** Takes the head request of {@code q}, which must be at the head of the round robin. */
+        CompletableFuture<TokenScheduler.Reservation> poll(TenantQueue q) {
+            CompletableFuture<TokenScheduler.Reservation> waiter = q.waiters.poll();
+            q.tenant.onDequeued();
+            q.deficit -= 1.0;
+            size--;
+            if (q.waiters.isEmpty()) remove(q);
+            return waiter;
+        }
+
+        /** Drops cancelled requests from the head of {@code q}; returns how many. */
+        int purge(TenantQueue q) {
+            int n = 0;
+            while (!q.waiters.isEmpty() && q.waiters.peek().isDone()) {
+                q.waiters.poll();
+                q.tenant.onDequeued();
+                n++;
+            }
+            size -= n;
+            return n;
+        }
+
+        void remove(TenantQueue q) {
+            active.remove(q);
+            byTenant.remove(q.tenant); // an idle tenant's deficit is forfeited
+        }
+    }
+
+    private static final class TenantQueue {
+        final Tenant tenant;
+        final ArrayDeque<CompletableFuture<TokenScheduler.Reservation>> waiters = new ArrayDeque<>();
+        double deficit;
+        long blockedTurn;
+
+        TenantQueue(Tenant tenant) {
+            this.tenant = tenant;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.clanboards.token;
+
+import com.clanboards.throttle.RateLimiter;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A named consumer of a client's shared rate budget, such as one community served by a bot.
+ *
+ * While requests have to wait for capacity, a {@link RequestDispatcher} shares the
+ * permits of each priority lane between the tenants waiting in it in proportion to
+ * their {@code weight} (deficit round robin), so one tenant crawling thousands of
+ * players cannot starve the others. An optional {@code quota} additionally caps a
+ * tenant's request rate even when capacity is idle.
+ *
+ * The counters report how many permits the tenant was granted, how many of its
+ * requests had to queue, and how many are waiting now.
+ *
+ * Thread-safety: This class is thread-safe.
+ *
+ * @see com.clanboards.CocClient#forTenant(Tenant)
+ */
+public final class Tenant {
+    private final String name;
+    private final double weight;
+    private final double quota;           // permits per second, 0: unlimited
+    private final RateLimiter quotaLimiter; // null: unlimited
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private Tenant(Builder b) {
+        this.name = b.name;
+        this.weight = b.weight;
+        this.quota = b.quota;
+        if (b.quota > 0) {
+            quotaLimiter = new RateLimiter((int) Math.max(1, Math.ceil(b.quota)), 1000);
+            quotaLimiter.setRate(b.quota);
+        } else {
+            quotaLimiter = null;
+        }
+    }
+
+    /**
+     * Creates a builder for a tenant with weight 1 and no quota.
+     *
+     * @param name tenant name (must not be null)
+     * @return new builder
+     * @throws NullPointerException if name is null
+     */
+    public static Builder newBuilder(String name) {
+        return new Builder(Objects.requireNonNull(name, "name"));
+    }
+
+    /**
+     * Returns the tenant's name.
+     *
+     * @return name
+     */
+    public String getName() { return name; }
+
+    /**
+     * Returns the tenant's relative share of contended capacity.
+     *
+     * @return weight (> 0)
+     */
+    public double getWeight() { return weight; }
+
+    /**
+     * Returns the cap on the tenant's request rate.
+     *
+     * @return permits per second, or 0 if the tenant is not capped
+     */
+    public double getQuota() { return quota; }
+
+    /**
+     * Returns how many permits the tenant has been granted.
+     *
+     * @return granted permits since creation
+     */
+    public long getGrantedCount() { return granted.sum(); }
+
+    /**
+     * Returns how many of the tenant's requests had to wait for capacity or quota.
+     *
+     * @return queued requests since creation
+     */
+    public long getQueuedCount() { return queued.sum(); }
+
+    /**
+     * Returns how many of the tenant's requests are waiting right now.
+     *
+     * @return current number of waiting requests
+     */
+    public int getWaitingCount() { return waiting.get(); }
+
+    long quotaWaitNanos() {
+        return quotaLimiter == null ? 0L : quotaLimiter.getWaitNanos();
+    }
+
+    // Charged only once capacity is reserved; if another client sharing this tenant took
+    // the free permit meanwhile, the slot is booked ahead and delays the next request
+    void chargeQuota() {
+        if (quotaLimiter != null) quotaLimiter.reserve();
+    }
+
+    void onGranted() { granted.increment(); }
+
+    void onQueued() {
+        queued.increment();
+        waiting.incrementAndGet();
+    }
+
+    void onDequeued() { waiting.decrementAndGet(); }
+
+    @Override
+    public String toString() {
+        return "Tenant{" + name + ", weight=" + weight + (quota > 0 ? ", quota=" + quota : "") + "}";
+    }
+
+    /**
+     * Builder for {@link Tenant} instances.
+     *
+     * Thread-safety: Builder instances are not thread-safe.
+     */
+    public static final class Builder {
+        private final String name;
+        private double weight = 1.0;
+        private double quota;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the tenant's share of contended capacity relative to other tenants.
+         *
+         * @param weight relative share, e.g. 2 for twice the default (must be > 0)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if not positive
+         */
+        public Builder weight(double weight) {
+            if (!(weight > 0)) throw new IllegalArgumentException("weight must be > 0");
+            this.weight = weight;
+            return this;
+        }
+
+        /**
+         * Caps the tenant's request rate regardless of spare capacity.
+         *
+         * @param permitsPerSecond maximum rate (must be > 0)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if not positive
+         */
+        public Builder quota(double permitsPerSecond) {
+            if (!(permitsPerSecond > 0)) throw new IllegalArgumentException("quota must be > 0");
+            this.quota = permitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Builds the tenant.
+         *
+         * @return new tenant with zeroed counters
+         */
+        public Tenant build() { return new Tenant(this); }
+    }
+}
@@ -0,0 +1,238 @@
+package com.clanboards.token;
+
+import com.clanboards.throttle.RateLimiter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Per-key rate budgeting with least-loaded token selection.
+ *
+ * Each API token gets its own {@link RateLimiter}, so a key is never driven past its
+ * own ceiling. For every request the scheduler picks the key with the most remaining
+ * capacity: the one whose limiter backlog, plus the requests it already has in flight,
+ * is smallest. Ties are broken round-robin so idle keys share load evenly.
+ *
+ * A key that receives HTTP 429 is penalised for {@link #PENALTY_NANOS}; a key whose
+ * responses are slow accumulates in-flight requests. Either way its score rises and new
+ * requests flow to the remaining keys instead of queueing behind it.
+ *
+ * Thread-safety: This class is thread-safe and designed for concurrent access.
+ *
+ * @see TokenRotator
+ * @see CocClient#loginWithTokens(java.util.List, int)
+ */
+public final class TokenScheduler {
+    /** Back-off applied to a key after it receives HTTP 429. */
+    public static final long PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<String> tokens;
+    private final RateLimiter[] limiters;
+    private final AtomicIntegerArray inFlight;
+    private final AtomicInteger cursor = new AtomicInteger(0);
+
+    /**
+     * Creates a scheduler giving every token the same per-second budget.
+     *
+     * @param tokens API tokens to schedule across (must not be null or empty)
+     * @param perTokenRate requests per second allowed for each token (must be > 0)
+     * @throws IllegalArgumentException if tokens is empty or perTokenRate is not positive
+     */
+    public TokenScheduler(List<String> tokens, int perTokenRate) {
+        if (tokens == null || tokens.isEmpty()) throw new IllegalArgumentException("tokens must not be empty");
+        if (perTokenRate <= 0) throw new IllegalArgumentException("perTokenRate must be > 0");
+        this.tokens = List.copyOf(tokens);
+        this.limiters = new RateLimiter[this.tokens.size()];
+        for (int i = 0; i < limiters.length; i++) {
+            limiters[i] = new RateLimiter(perTokenRate, 1000);
+        }
+        this.inFlight = new AtomicIntegerArray(limiters.length);
+    }
+
+    /**
+     * Reserves capacity on the least-loaded key without blocking.
+     *
+     * The caller must wait {@link Reservation#getDelayNanos()} before sending and must
+     * report the outcome through {@link #complete(Reservation, int)}.
+     *
+     * @return reservation naming the token to use and the delay before it may be used
+     */
+    public Reservation reserve() {
+        int i = pick();
+        long delay = limiters[i].reserve();
+        inFlight.incrementAndGet(i);
+        return new Reservation(i, tokens.get(i), delay);
+    }
+
+    /**
+     * Reserves an immediately usable permit on the least-loaded key that has one.
+     *
+     * Unlike {@link #reserve()} this never books capacity in the future, which lets a
+     * caller keep its own queue of waiting requests and decide which one goes next.
+     *
+     * @return reservation with zero delay, or null if every key would make the caller wait
+     * @see #getWaitNanos()
+     */
+    public Reservation tryReserve() {
+        return tryReserveExcept(-1);
+    }
+
+    /**
+     * Reserves an immediately usable permit on a key other than the given one, if any.
+     *
+     * Used for optional duplicate requests: unlike {@link #reserve()} it never queues,
+     * so it only consumes capacity that regular traffic is not already waiting for.
+     *
+     * @param exclude reservation whose key must not be used
+     * @return reservation with zero delay, or null if no other key has a free permit
+     */
+    public Reservation tryReserveSpare(Reservation exclude) {
+        return tryReserveExcept(exclude.index);
+    }
+
+    /**
+     * Returns how long until some key has a free permit.
+     *
+     * @return nanoseconds until {@link #tryReserve()} can succeed (0 if it can now)
+     */
+    public long getWaitNanos() {
+        long min = Long.MAX_VALUE;
+        for (RateLimiter limiter : limiters) min = Math.min(min, limiter.getWaitNanos());
+        return min;
+    }
+
+    /**
+     * Reserves capacity on the least-loaded key and waits until it falls due.
+     *
+     * @return reservation whose delay has already elapsed
+     * @throws RuntimeException if the thread is interrupted while waiting
+     */
+    public Reservation acquire() {
+        Reservation r = reserve();
+        long deadline = System.nanoTime() + r.delayNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                complete(r, 0);
+                throw new RuntimeException("Interrupted while throttling", new InterruptedException());
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Reports that the request made under a reservation has finished.
+     *
+     * Releases the key's in-flight slot and, for HTTP 429, penalises the key so that
+     * subsequent requests prefer other keys.
+     *
+     * @param reservation reservation returned by {@link #reserve()} or {@link #acquire()}
+     * @param statusCode HTTP status of the response, or 0 if no response was received
+     */
+    public void complete(Reservation reservation, int statusCode) {
+        inFlight.decrementAndGet(reservation.index);
+        if (statusCode == 429) {
+            limiters[reservation.index].penalize(PENALTY_NANOS);
+        }
+    }
+
+    /**
+     * Changes the per-second budget of every token.
+     *
+     * @param permitsPerSecond new rate for each token (must be > 0)
+     * @throws IllegalArgumentException if permitsPerSecond is not positive
+     * @see com.clanboards.throttle.AdaptiveRateController
+     */
+    public void setPerTokenRate(double permitsPerSecond) {
+        for (RateLimiter limiter : limiters) limiter.setRate(permitsPerSecond);
+    }
+
+    /**
+     * Returns the current per-second budget of each token.
+     *
+     * @return requests per second allowed for each token
+     */
+    public double getPerTokenRate() { return limiters[0].getRate(); }
+
+    /**
+     * Returns an immutable list of all scheduled tokens.
+     *
+     * @return immutable list of all API tokens
+     */
+    public List<String> getAll() { return tokens; }
+
+    private int pick() {
+        int n = limiters.length;
+        if (n == 1) return 0;
+        int start = Math.floorMod(cursor.getAndIncrement(), n);
+        int best = start;
+        long bestScore = score(start);
+        for (int k = 1; k < n; k++) {
+            int i = start + k < n ? start + k : start + k - n;
+            long s = score(i);
+            if (s < bestScore) {
+                best = i;
+                bestScore = s;
+            }
+        }
+        return best;
+    }
+
+    private Reservation tryReserveExcept(int exclude) {
+        int n = limiters.length;
+        int start = n == 1 ? 0 : Math.floorMod(cursor.getAndIncrement(), n);
+        int best = -1;
+        long bestScore = Long.MAX_VALUE;
+        for (int k = 0; k < n; k++) {
+            int i = start + k < n ? start + k : start + k - n;
+            if (i == exclude || limiters[i].getWaitNanos() > 0) continue;
+            long s = score(i);
+            if (s < bestScore) {
+                best = i;
+                bestScore = s;
+            }
+        }
+        if (best < 0 || !limiters[best].tryAcquire()) return null;
+        inFlight.incrementAndGet(best);
+        return new Reservation(best, tokens.get(best), 0L);
+    }
+
+    private long score(int i) {
+        RateLimiter limiter = limiters[i];
+        return limiter.getBacklogNanos() + inFlight.get(i) * limiter.getIntervalNanos();
+    }
+
+    /**
+     * Capacity reserved on one key for a single request.
+     */
+    public static final class Reservation {
+        private final int index;
+        private final String token;
+        private final long delayNanos;
+
+        private Reservation(int index, String token, long delayNanos) {
+            this.index = index;
+            this.token = token;
+            this.delayNanos = delayNanos;
+        }
+
+        /**
+         * Returns the API token to send the request with.
+         *
+         * @return API token
+         */
+        public String getToken() { return token; }
+
+        /**
+         * Returns how long to wait before the reserved capacity may be used.
+         *
+         * @return delay in nanoseconds (0 if immediate)
+         */
+        public long getDelayNanos() { return delayNanos; }
+    }
+}
@@ -2,6 +2,10 @@
  * Token rotation utilities for distributing requests across multiple tokens.
  *
  * <p>{@link com.clanboards.token.TokenRotator} cycles tokens per request.
+ * {@link com.clanboards.token.TokenScheduler} gives each token its own rate budget
+ * and sends every request on the least-loaded token; it backs the client's throttling.
+ * {@link com.clanboards.token.RequestDispatcher} queues requests that have to wait for
+ * capacity in {@link com.clanboards.throttle.Priority} lanes in front of the scheduler,
+ * sharing each lane between {@link com.clanboards.token.Tenant}s by weighted round robin.
  */
 package com.clanboards.token;
-
@@ -0,0 +1,52 @@
+package com.clanboards.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for running many blocking client calls at once.
+ *
+ * The library ships as a multi-release JAR. On Java 21 and later the class in
+ * {@code META-INF/versions/21} is loaded instead of this one and starts one virtual
+ * thread per task, so tens of thousands of blocked calls cost little more than their
+ * stacks. This Java 17 variant falls back to daemon platform threads created on demand.
+ *
+ * Blocking paths in the client wait with {@link java.util.concurrent.locks.LockSupport}
+ * and {@code java.util.concurrent} primitives rather than monitors, so a virtual thread
+ * waiting for a rate-limit slot or an HTTP response unmounts instead of pinning its
+ * carrier.
+ *
+ * @see com.clanboards.CocClient#crawl(java.util.Collection, int, java.util.function.Function, com.clanboards.BulkListener)
+ */
+public final class BulkExecutors {
+    private BulkExecutors() {}
+
+    /**
+     * Returns whether {@link #newPerTaskExecutor(String)} uses virtual threads.
+     *
+     * @return true on Java 21 and later
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for every task.
+     *
+     * Callers bound concurrency themselves and must shut the executor down when done.
+     *
+     * @param name prefix for thread names
+     * @return new unbounded per-task executor
+     */
+    public static ExecutorService newPerTaskExecutor(String name) {
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread t = new Thread(r, name + "-" + seq.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+}
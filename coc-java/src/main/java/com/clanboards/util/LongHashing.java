@@ -0,0 +1,50 @@
+package com.clanboards.util;
+
+/**
+ * Hashing and sizing shared by the open-addressing tag collections.
+ *
+ * Tables have a power-of-two length and are kept at most three quarters full.
+ * Key 0 marks an empty slot, which is safe because {@link TagUtil#packTag(String)}
+ * never produces it.
+ */
+final class LongHashing {
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private LongHashing() {}
+
+    /** Scrambles a key so that sequential packed tags spread across the table. */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Returns the table length needed to hold {@code expected} keys without resizing. */
+    static int tableSize(int expected) {
+        if (expected < 0) throw new IllegalArgumentException("expectedSize must be >= 0");
+        long needed = Math.max(8L, (long) expected * 4 / 3 + 1);
+        if (needed > MAX_CAPACITY) return MAX_CAPACITY;
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /** Returns the size at which a table of the given length must grow. */
+    static int resizeThreshold(int tableLength) {
+        return tableLength == MAX_CAPACITY ? MAX_CAPACITY - 1 : tableLength / 4 * 3;
+    }
+
+    /**
+     * Returns whether the entry found at {@code slot}, whose preferred slot is
+     * {@code home}, may move back into the emptied {@code gap} without becoming
+     * unreachable from its home.
+     */
+    static boolean canShift(int home, int gap, int slot, int mask) {
+        return ((slot - home) & mask) >= ((slot - gap) & mask);
+    }
+
+    static void checkKey(long key) {
+        if (key == 0) throw new IllegalArgumentException("key 0 is reserved for empty slots");
+    }
+
+    static long tagKey(String tag) {
+        return TagUtil.packTag(TagUtil.correctTag(tag));
+    }
+}
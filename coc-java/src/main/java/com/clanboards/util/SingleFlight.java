@@ -0,0 +1,146 @@
+package com.clanboards.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into a single execution.
+ *
+ * The first caller for a key runs the supplied work; callers arriving while it is
+ * still running wait for, and receive, the same result or exception instead of
+ * repeating the work. Once the call completes the key is released, so later callers
+ * start a fresh execution. Nothing is cached beyond the lifetime of a call.
+ *
+ * Blocking and asynchronous callers may share the same key: a blocking caller can
+ * join a flight started by {@link #executeAsync(Object, Supplier)} and vice versa.
+ *
+ * Thread-safety: This class is thread-safe and designed for concurrent use.
+ *
+ * @param <K> key type, typically a request URL
+ * @param <V> result type
+ */
+public final class SingleFlight<K, V> {
+    private final Map<K, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * Runs {@code call} for the key unless an identical call is already running, in
+     * which case its outcome is awaited and returned.
+     *
+     * @param key identity of the call
+     * @param call work to run if no call for the key is in flight
+     * @return result of the call that ran
+     * @throws RuntimeException the exception thrown by the call that ran
+     */
+    public V execute(K key, Supplier<? extends V> call) {
+        Flight mine = new Flight();
+        Flight existing = join(key, mine);
+        if (existing != null) {
+            try {
+                return existing.result.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException re) throw re;
+                if (cause instanceof Error err) throw err;
+                throw e;
+            }
+        }
+        try {
+            V value = call.get();
+            mine.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #execute(Object, Supplier)}.
+     *
+     * Every caller receives its own dependent future, so cancelling one caller's
+     * future does not affect the others sharing the call. Once every caller has
+     * cancelled, the future returned by {@code call} is cancelled too and the key is
+     * released; a blocking caller waiting on the call keeps it running.
+     *
+     * @param key identity of the call
+     * @param call starts the work if no call for the key is in flight
+     * @return future completing with the outcome of the call that ran
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> call) {
+        Flight mine = new Flight();
+        Flight existing = join(key, mine);
+        if (existing != null) return existing.newCaller(key);
+        try {
+            CompletableFuture<V> work = call.get().toCompletableFuture();
+            mine.work = work;
+            work.whenComplete((value, error) -> {
+                inFlight.remove(key, mine);
+                if (error != null) mine.result.completeExceptionally(error);
+                else mine.result.complete(value);
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.result.completeExceptionally(e);
+        }
+        return mine.newCaller(key);
+    }
+
+    /** Registers {@code mine} for the key, or joins the running call and returns it. */
+    private Flight join(K key, Flight mine) {
+        while (true) {
+            Flight existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) return null;
+            if (existing.retain()) {
+                shared.increment();
+                return existing;
+            }
+            inFlight.remove(key, existing); // every caller gave up on it
+        }
+    }
+
+    /**
+     * Returns how many calls were satisfied by joining another caller's execution.
+     *
+     * @return number of shared calls since creation
+     */
+    public long getSharedCount() { return shared.sum(); }
+
+    /**
+     * Returns the number of keys currently being executed.
+     *
+     * @return in-flight key count
+     */
+    public int inFlightCount() { return inFlight.size(); }
+
+    /** One running call and the number of callers still interested in its outcome. */
+    private final class Flight {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        final AtomicInteger interested = new AtomicInteger(1);
+        volatile CompletableFuture<?> work;
+
+        boolean retain() {
+            return interested.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0;
+        }
+
+        CompletableFuture<V> newCaller(K key) {
+            CompletableFuture<V> caller = result.copy();
+            caller.whenComplete((value, error) -> {
+                if (caller.isCancelled() && interested.decrementAndGet() == 0) {
+                    inFlight.remove(key, this);
+                    CompletableFuture<?> w = work;
+                    if (w != null) w.cancel(true);
+                }
+            });
+            return caller;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.clanboards.util;
+
+import java.util.Arrays;
+
+/**
+ * Map from packed tags to {@code int} values, backed by parallel open-addressing arrays.
+ *
+ * Suited to per-player counters such as last-seen trophies or attack counts: an entry
+ * costs one {@code long} and one {@code int} slot, with no boxing and no per-entry
+ * objects. Keys are the values produced by {@link TagUtil#packTag(String)}; String
+ * overloads accept a tag in any format and pack it after {@link TagUtil#correctTag(String)}.
+ *
+ * Thread-safety: Not thread-safe. Guard with external synchronization when shared.
+ *
+ * @see TagMap
+ * @see TagSet
+ */
+public final class TagIntMap {
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    /**
+     * Receives the entries of a {@link TagIntMap}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Accepts one entry.
+         *
+         * @param key packed tag
+         * @param value value mapped to the tag
+         */
+        void accept(long key, int value);
+    }
+
+    /** Creates an empty map. */
+    public TagIntMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map sized for the given number of entries.
+     *
+     * @param expectedSize number of entries expected (must be >= 0)
+     */
+    public TagIntMap(int expectedSize) {
+        allocate(LongHashing.tableSize(expectedSize));
+    }
+
+    /**
+     * Associates a value with a packed tag.
+     *
+     * @param key packed tag (must not be 0)
+     * @param value value to store
+     * @return true if the tag was not mapped before
+     * @throws IllegalArgumentException if key is 0
+     */
+    public boolean put(long key, int value) {
+        int i = insertionIndex(key);
+        boolean added = keys[i] == 0;
+        keys[i] = key;
+        values[i] = value;
+        if (added && ++size > resizeAt) rehash(keys.length << 1);
+        return added;
+    }
+
+    /**
+     * Associates a value with a tag given in any format.
+     *
+     * @param tag tag to map
+     * @param value value to store
+     * @return true if the tag was not mapped before
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public boolean put(String tag, int value) {
+        return put(LongHashing.tagKey(tag), value);
+    }
+
+    /**
+     * Adds {@code delta} to the value of a packed tag, treating an absent tag as 0.
+     *
+     * @param key packed tag (must not be 0)
+     * @param delta amount to add
+     * @return the updated value
+     * @throws IllegalArgumentException if key is 0
+     */
+    public int addTo(long key, int delta) {
+        int i = insertionIndex(key);
+        if (keys[i] != 0) return values[i] += delta;
+        keys[i] = key;
+        values[i] = delta;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return delta;
+    }
+
+    /**
+     * Returns the value mapped to a packed tag.
+     *
+     * @param key packed tag
+     * @param defaultValue value returned when the tag is absent
+     * @return mapped value, or defaultValue if absent
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == 0) return defaultValue;
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : defaultValue;
+    }
+
+    /**
+     * Returns the value mapped to a tag given in any format.
+     *
+     * @param tag tag to look up
+     * @param defaultValue value returned when the tag is absent
+     * @return mapped value, or defaultValue if absent
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public int getOrDefault(String tag, int defaultValue) {
+        return getOrDefault(LongHashing.tagKey(tag), defaultValue);
+    }
+
+    /**
+     * Returns whether a packed tag is mapped.
+     *
+     * @param key packed tag
+     * @return true if present
+     */
+    public boolean containsKey(long key) {
+        return key != 0 && indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes the mapping for a packed tag.
+     *
+     * @param key packed tag
+     * @return true if the tag was mapped
+     */
+    public boolean remove(long key) {
+        if (key == 0) return false;
+        int i = indexOf(key);
+        if (i < 0) return false;
+        shiftDown(i);
+        size--;
+        return true;
+    }
+
+    /**
+     * Passes every entry to the action, in no particular order.
+     *
+     * @param action receives each packed tag and its value
+     */
+    public void forEach(EntryConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return entry count
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return true if no entries are present
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /** Removes all entries, keeping the current capacity. */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    /** Returns the slot holding {@code key}, or the empty slot where it would be inserted. */
+    private int insertionIndex(long key) {
+        LongHashing.checkKey(key);
+        int i = LongHashing.mix(key) & mask;
+        long k;
+        while ((k = keys[i]) != 0 && k != key) i = (i + 1) & mask;
+        return i;
+    }
+
+    private int indexOf(long key) {
+        int i = LongHashing.mix(key) & mask;
+        long k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftDown(int gap) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = keys[j];
+            if (k == 0) break;
+            if (LongHashing.canShift(LongHashing.mix(k) & mask, gap, j, mask)) {
+                keys[gap] = k;
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == LongHashing.MAX_CAPACITY) throw new IllegalStateException("TagIntMap is full");
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long k = oldKeys[j];
+            if (k == 0) continue;
+            int i = LongHashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+}
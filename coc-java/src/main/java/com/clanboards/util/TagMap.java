@@ -0,0 +1,241 @@
+package com.clanboards.util;
+
+import java.util.Arrays;
+
+/**
+ * Map from packed tags to objects, backed by parallel open-addressing arrays.
+ *
+ * Keys are the values produced by {@link TagUtil#packTag(String)}, so an entry costs
+ * one {@code long} and one reference slot instead of a String key plus a hash map
+ * node. String overloads accept a tag in any format and pack it after
+ * {@link TagUtil#correctTag(String)}. Null values are not permitted, which lets
+ * {@link #get(long)} return null for absent keys unambiguously.
+ *
+ * Thread-safety: Not thread-safe. Guard with external synchronization when shared.
+ *
+ * @param <V> value type
+ * @see TagIntMap
+ * @see TagSet
+ */
+public final class TagMap<V> {
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    /**
+     * Receives the entries of a {@link TagMap}.
+     *
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Accepts one entry.
+         *
+         * @param key packed tag
+         * @param value value mapped to the tag
+         */
+        void accept(long key, V value);
+    }
+
+    /** Creates an empty map. */
+    public TagMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map sized for the given number of entries.
+     *
+     * @param expectedSize number of entries expected (must be >= 0)
+     */
+    public TagMap(int expectedSize) {
+        allocate(LongHashing.tableSize(expectedSize));
+    }
+
+    /**
+     * Associates a value with a packed tag.
+     *
+     * @param key packed tag (must not be 0)
+     * @param value value to store (must not be null)
+     * @return previous value, or null if the tag was absent
+     * @throws IllegalArgumentException if key is 0
+     * @throws NullPointerException if value is null
+     */
+    public V put(long key, V value) {
+        LongHashing.checkKey(key);
+        if (value == null) throw new NullPointerException("value");
+        int i = LongHashing.mix(key) & mask;
+        long k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) {
+                V previous = valueAt(i);
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return null;
+    }
+
+    /**
+     * Associates a value with a tag given in any format.
+     *
+     * @param tag tag to map
+     * @param value value to store (must not be null)
+     * @return previous value, or null if the tag was absent
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public V put(String tag, V value) {
+        return put(LongHashing.tagKey(tag), value);
+    }
+
+    /**
+     * Returns the value mapped to a packed tag.
+     *
+     * @param key packed tag
+     * @return mapped value, or null if absent
+     */
+    public V get(long key) {
+        if (key == 0) return null;
+        int i = indexOf(key);
+        return i >= 0 ? valueAt(i) : null;
+    }
+
+    /**
+     * Returns the value mapped to a tag given in any format.
+     *
+     * @param tag tag to look up
+     * @return mapped value, or null if absent
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public V get(String tag) {
+        return get(LongHashing.tagKey(tag));
+    }
+
+    /**
+     * Returns whether a packed tag is mapped.
+     *
+     * @param key packed tag
+     * @return true if present
+     */
+    public boolean containsKey(long key) {
+        return key != 0 && indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes the mapping for a packed tag.
+     *
+     * @param key packed tag
+     * @return removed value, or null if absent
+     */
+    public V remove(long key) {
+        if (key == 0) return null;
+        int i = indexOf(key);
+        if (i < 0) return null;
+        V previous = valueAt(i);
+        shiftDown(i);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Removes the mapping for a tag given in any format.
+     *
+     * @param tag tag to remove
+     * @return removed value, or null if absent
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public V remove(String tag) {
+        return remove(LongHashing.tagKey(tag));
+    }
+
+    /**
+     * Passes every entry to the action, in no particular order.
+     *
+     * @param action receives each packed tag and its value
+     */
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], valueAt(i));
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return entry count
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return true if no entries are present
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /** Removes all entries, keeping the current capacity. */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int i) {
+        return (V) values[i];
+    }
+
+    private int indexOf(long key) {
+        int i = LongHashing.mix(key) & mask;
+        long k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftDown(int gap) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = keys[j];
+            if (k == 0) break;
+            if (LongHashing.canShift(LongHashing.mix(k) & mask, gap, j, mask)) {
+                keys[gap] = k;
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == LongHashing.MAX_CAPACITY) throw new IllegalStateException("TagMap is full");
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long k = oldKeys[j];
+            if (k == 0) continue;
+            int i = LongHashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+            values[i] = oldValues[j];
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.clanboards.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Set of tags stored as packed {@code long} values in a single open-addressing array.
+ *
+ * Keys are the values produced by {@link TagUtil#packTag(String)}; each member costs
+ * one array slot rather than a String and a hash map node. String overloads accept a
+ * tag in any format and pack it after {@link TagUtil#correctTag(String)}. Removal uses
+ * backward-shift deletion, so no tombstones accumulate under churn.
+ *
+ * Thread-safety: Not thread-safe. Guard with external synchronization when shared.
+ *
+ * @see TagMap
+ * @see TagIntMap
+ */
+public final class TagSet {
+    private long[] keys;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    /** Creates an empty set. */
+    public TagSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set sized for the given number of tags.
+     *
+     * @param expectedSize number of tags expected (must be >= 0)
+     */
+    public TagSet(int expectedSize) {
+        allocate(LongHashing.tableSize(expectedSize));
+    }
+
+    /**
+     * Adds a packed tag.
+     *
+     * @param key packed tag (must not be 0)
+     * @return true if the tag was not already present
+     * @throws IllegalArgumentException if key is 0
+     */
+    public boolean add(long key) {
+        LongHashing.checkKey(key);
+        int i = LongHashing.mix(key) & mask;
+        long k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return false;
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return true;
+    }
+
+    /**
+     * Adds a tag given in any format.
+     *
+     * @param tag tag to add
+     * @return true if the tag was not already present
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public boolean add(String tag) {
+        return add(LongHashing.tagKey(tag));
+    }
+
+    /**
+     * Returns whether the packed tag is present.
+     *
+     * @param key packed tag
+     * @return true if present
+     */
+    public boolean contains(long key) {
+        return key != 0 && indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns whether the tag is present.
+     *
+     * @param tag tag in any format
+     * @return true if present
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public boolean contains(String tag) {
+        return contains(LongHashing.tagKey(tag));
+    }
+
+    /**
+     * Removes a packed tag.
+     *
+     * @param key packed tag
+     * @return true if the tag was present
+     */
+    public boolean remove(long key) {
+        if (key == 0) return false;
+        int i = indexOf(key);
+        if (i < 0) return false;
+        shiftDown(i);
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes a tag given in any format.
+     *
+     * @param tag tag to remove
+     * @return true if the tag was present
+     * @throws IllegalArgumentException if the tag cannot be packed
+     */
+    public boolean remove(String tag) {
+        return remove(LongHashing.tagKey(tag));
+    }
+
+    /**
+     * Passes every packed tag to the action, in no particular order.
+     *
+     * @param action receives each packed tag
+     */
+    public void forEach(LongConsumer action) {
+        for (long k : keys) {
+            if (k != 0) action.accept(k);
+        }
+    }
+
+    /**
+     * Returns the packed tags as a new array, in no particular order.
+     *
+     * @return array of packed tags
+     */
+    public long[] toArray() {
+        long[] out = new long[size];
+        int n = 0;
+        for (long k : keys) {
+            if (k != 0) out[n++] = k;
+        }
+        return out;
+    }
+
+    /**
+     * Returns the number of tags in the set.
+     *
+     * @return tag count
+     */
+    public int size() { return size; }
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return true if no tags are present
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /** Removes all tags, keeping the current capacity. */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int i = LongHashing.mix(key) & mask;
+        long k;
+        while ((k = keys[i]) != 0) {
+            if (k == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftDown(int gap) {
+        int j = gap;
+        while (true) {
+            j = (j + 1) & mask;
+            long k = keys[j];
+            if (k == 0) break;
+            if (LongHashing.canShift(LongHashing.mix(k) & mask, gap, j, mask)) {
+                keys[gap] = k;
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = LongHashing.resizeThreshold(capacity);
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == LongHashing.MAX_CAPACITY) throw new IllegalStateException("TagSet is full");
+        long[] old = keys;
+        allocate(capacity);
+        for (long k : old) {
+            if (k == 0) continue;
+            int i = LongHashing.mix(k) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = k;
+        }
+    }
+}
@@ -13,6 +13,20 @@ package com.clanboards.util;
  * @see CocClient#getPlayer(String)
  */
 public final class TagUtil {
+    /** Characters that can appear in a tag after the '#', in the game's own order. */
+    public static final String ALPHABET = "0289PYLQGRJCUV";
+
+    /** Longest tag body (excluding '#') that {@link #packTag(String)} can represent. */
+    public static final int MAX_PACKED_LENGTH = 16;
+
+    private static final int RADIX = ALPHABET.length();
+    private static final byte[] DIGITS = new byte[128]; // ASCII char -> alphabet index, or -1
+
+    static {
+        java.util.Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < RADIX; i++) DIGITS[ALPHABET.charAt(i)] = (byte) i;
+    }
+
     private TagUtil() {}
 
     /**
@@ -34,15 +48,97 @@ public final class TagUtil {
      * correctTag("#2PO0") → "#2P00"
      * </pre>
      *
+     * The input is normalised in a single pass without regular expressions. A tag
+     * that is already in standard form is returned as the same instance.
+     *
      * @param tag the input tag in any format
      * @return normalized tag with '#' prefix, or the original tag if null/empty
      */
     public static String correctTag(String tag) {
         if (tag == null || tag.isEmpty()) return tag;
+        if (isCorrected(tag)) return tag;
+        int n = tag.length();
+        char[] out = new char[n + 1];
+        out[0] = '#';
+        int len = 1;
+        for (int i = 0; i < n; i++) {
+            char c = tag.charAt(i);
+            if (c >= 0x80) return correctTagUnicode(tag); // non-ASCII may upper-case into A-Z
+            if (c >= 'a' && c <= 'z') c -= 'a' - 'A';
+            if (c == 'O') c = '0';
+            if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) out[len++] = c;
+        }
+        return new String(out, 0, len);
+    }
+
+    private static boolean isCorrected(String tag) {
+        if (tag.charAt(0) != '#') return false;
+        for (int i = 1, n = tag.length(); i < n; i++) {
+            char c = tag.charAt(i);
+            if (!((c >= 'A' && c <= 'Z' && c != 'O') || (c >= '0' && c <= '9'))) return false;
+        }
+        return true;
+    }
+
+    private static String correctTagUnicode(String tag) {
         String cleaned = tag.toUpperCase().replace('O', '0').replaceAll("[^A-Z0-9]+", "");
         return "#" + cleaned;
     }
 
+    /**
+     * Packs a corrected tag into a positive {@code long}.
+     *
+     * Each character after the '#' is a digit of {@link #ALPHABET}, and the digits are
+     * combined in bijective base 14 so that leading '0' characters are preserved and
+     * every distinct tag maps to a distinct value. The result is never 0, which leaves
+     * 0 free for use as an "absent" marker in primitive collections.
+     *
+     * Example:
+     * <pre>
+     * unpackTag(packTag("#2PP")) → "#2PP"
+     * </pre>
+     *
+     * @param tag corrected tag, with or without the leading '#'
+     * @return packed tag (always &gt; 0)
+     * @throws IllegalArgumentException if the tag is empty, longer than
+     *         {@link #MAX_PACKED_LENGTH}, or contains characters outside {@link #ALPHABET}
+     */
+    public static long packTag(String tag) {
+        int start = !tag.isEmpty() && tag.charAt(0) == '#' ? 1 : 0;
+        int len = tag.length() - start;
+        if (len == 0 || len > MAX_PACKED_LENGTH) {
+            throw new IllegalArgumentException("Tag length must be 1.." + MAX_PACKED_LENGTH + ": " + tag);
+        }
+        long value = 0;
+        for (int i = start; i < tag.length(); i++) {
+            char c = tag.charAt(i);
+            int digit = c < 128 ? DIGITS[c] : -1;
+            if (digit < 0) throw new IllegalArgumentException("Invalid tag character '" + c + "': " + tag);
+            value = value * RADIX + digit + 1;
+        }
+        return value;
+    }
+
+    /**
+     * Restores the tag string from a value produced by {@link #packTag(String)}.
+     *
+     * @param packed packed tag (must be &gt; 0)
+     * @return tag with '#' prefix
+     * @throws IllegalArgumentException if packed is not positive
+     */
+    public static String unpackTag(long packed) {
+        if (packed <= 0) throw new IllegalArgumentException("packed tag must be > 0: " + packed);
+        char[] buf = new char[MAX_PACKED_LENGTH + 1];
+        int pos = buf.length;
+        while (packed > 0) {
+            packed--;
+            buf[--pos] = ALPHABET.charAt((int) (packed % RADIX));
+            packed /= RADIX;
+        }
+        buf[--pos] = '#';
+        return new String(buf, pos, buf.length - pos);
+    }
+
     /**
      * Encodes a tag for safe use in URL path segments.
      *
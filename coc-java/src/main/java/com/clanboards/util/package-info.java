@@ -2,7 +2,15 @@
  * General utilities used across the client.
  *
  * <p>Notably {@link com.clanboards.util.TagUtil} for tag normalization and
- * URL encoding rules.
+ * URL encoding rules (including packing tags into {@code long} values), and
+ * {@link com.clanboards.util.SingleFlight} for coalescing concurrent identical calls.
+ *
+ * <p>{@link com.clanboards.util.TagMap}, {@link com.clanboards.util.TagIntMap} and
+ * {@link com.clanboards.util.TagSet} are open-addressing collections keyed by packed
+ * tags, for tracking state about large numbers of players or clans without boxing.
+ *
+ * <p>{@link com.clanboards.util.BulkExecutors} has a Java 21 variant in the multi-release
+ * JAR that runs bulk crawls on virtual threads.
  */
 package com.clanboards.util;
 
@@ -0,0 +1,60 @@
+package com.clanboards.wars;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents a single attack made during a clan war.
+ *
+ * Thread-safety: This class is immutable and thread-safe.
+ *
+ * @see WarMember#getAttacks()
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WarAttack {
+    private String attackerTag;
+    private String defenderTag;
+    private int stars;
+    private double destructionPercentage;
+    private int order;
+    private int duration;
+
+    /**
+     * Returns the tag of the attacking player.
+     *
+     * @return attacker tag
+     */
+    public String getAttackerTag() { return attackerTag; }
+    /**
+     * Returns the tag of the defending player.
+     *
+     * @return defender tag
+     */
+    public String getDefenderTag() { return defenderTag; }
+    /**
+     * Returns the stars earned by this attack.
+     *
+     * @return stars (0-3)
+     */
+    public int getStars() { return stars; }
+    /**
+     * Returns the destruction achieved by this attack.
+     *
+     * @return destruction percentage (0.0 to 100.0)
+     */
+    public double getDestructionPercentage() { return destructionPercentage; }
+    /**
+     * Returns the attack's position in the war's overall attack sequence.
+     *
+     * Orders are unique within a war and increase by one with each attack made
+     * by either side.
+     *
+     * @return attack order (1-based)
+     */
+    public int getOrder() { return order; }
+    /**
+     * Returns how long the attack lasted.
+     *
+     * @return duration in seconds
+     */
+    public int getDuration() { return duration; }
+}
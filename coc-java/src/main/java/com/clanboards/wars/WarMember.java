@@ -0,0 +1,54 @@
+package com.clanboards.wars;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Represents one participant on a war roster.
+ *
+ * Thread-safety: This class is immutable and thread-safe.
+ *
+ * @see WarSide#getMembers()
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WarMember {
+    private String tag;
+    private String name;
+    @JsonProperty("townhallLevel")
+    private int townHallLevel;
+    private int mapPosition;
+    private List<WarAttack> attacks = List.of();
+
+    /**
+     * Returns the member's player tag.
+     *
+     * @return player tag (e.g., "#2PP")
+     */
+    public String getTag() { return tag; }
+    /**
+     * Returns the member's display name.
+     *
+     * @return player name
+     */
+    public String getName() { return name; }
+    /**
+     * Returns the member's town hall level.
+     *
+     * @return town hall level
+     */
+    public int getTownHallLevel() { return townHallLevel; }
+    /**
+     * Returns the member's position on the war map (1-based).
+     *
+     * @return map position
+     */
+    public int getMapPosition() { return mapPosition; }
+    /**
+     * Returns the attacks this member has made in the war.
+     *
+     * @return attacks (empty if none yet)
+     */
+    public List<WarAttack> getAttacks() { return attacks; }
+}
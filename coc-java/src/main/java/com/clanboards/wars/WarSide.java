@@ -3,6 +3,8 @@ package com.clanboards.wars;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 /**
  * Represents one side (clan or opponent) in a clan war.
  *
@@ -21,6 +23,8 @@ public class WarSide {
     private int stars;
     @JsonProperty("destructionPercentage")
     private double destructionPercentage;
+    private int attacks;
+    private List<WarMember> members = List.of();
 
     /**
      * Returns the clan tag for this war side.
@@ -52,5 +56,16 @@ public class WarSide {
      * @return destruction percentage (0.0 to 100.0 * teamSize)
      */
     public double getDestructionPercentage() { return destructionPercentage; }
+    /**
+     * Returns the number of attacks this side has used so far.
+     *
+     * @return attacks used
+     */
+    public int getAttacks() { return attacks; }
+    /**
+     * Returns this side's war roster, including each member's attacks.
+     *
+     * @return war members (empty if the API did not include them)
+     */
+    public List<WarMember> getMembers() { return members; }
 }
-
@@ -15,6 +15,8 @@
  * <ul>
  * <li>{@link com.clanboards.wars.ClanWar} - Active or completed war information</li>
  * <li>{@link com.clanboards.wars.WarSide} - One side's performance in a war</li>
+ * <li>{@link com.clanboards.wars.WarMember} - A participant on a war roster</li>
+ * <li>{@link com.clanboards.wars.WarAttack} - A single war attack</li>
  * <li>{@link com.clanboards.wars.ClanWarLogEntry} - Historical war record</li>
  * <li>{@link com.clanboards.wars.ClanWarLeagueGroup} - CWL group structure and rounds</li>
  * <li>{@link com.clanboards.wars.CwlClan} - Clan information within CWL context</li>
@@ -0,0 +1,35 @@
+package com.clanboards.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for running many blocking client calls at once.
+ *
+ * Java 21 variant of the multi-release JAR: every task runs on its own virtual thread.
+ * The public API must stay identical to the Java 17 class in {@code src/main/java}.
+ */
+public final class BulkExecutors {
+    private BulkExecutors() {}
+
+    /**
+     * Returns whether {@link #newPerTaskExecutor(String)} uses virtual threads.
+     *
+     * @return true on Java 21 and later
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task.
+     *
+     * Callers bound concurrency themselves and must shut the executor down when done.
+     *
+     * @param name prefix for thread names
+     * @return new unbounded per-task executor
+     */
+    public static ExecutorService newPerTaskExecutor(String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+}
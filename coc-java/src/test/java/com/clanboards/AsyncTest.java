@@ -0,0 +1,85 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.exceptions.NotFoundException;
+import com.clanboards.http.HttpRequest;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    @Test
+    void getClanAsync_usesExecuteAsync_andDecodes() {
+        List<HttpRequest> seen = new ArrayList<>();
+        HttpTransport fake = new HttpTransport() {
+            @Override
+            public HttpResponse execute(HttpRequest request) {
+                throw new AssertionError("blocking execute should not be used");
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                seen.add(request);
+                String json = "{\"tag\":\"#2PP\",\"name\":\"Async Clan\",\"clanLevel\":7,\"members\":20}";
+                return CompletableFuture.completedFuture(new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8)));
+            }
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        Clan clan = client.getClanAsync("2pp").join();
+        assertEquals("Async Clan", clan.getName());
+        assertEquals(1, seen.size());
+        assertTrue(seen.get(0).getUrl().endsWith("/clans/%232PP"));
+        assertEquals("Bearer t", seen.get(0).getHeaders().get("Authorization"));
+    }
+
+    @Test
+    void getPlayerAsync_404_completesExceptionally() {
+        HttpTransport fake = req -> new HttpResponse(404, "{}".getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        CompletionException ex = assertThrows(CompletionException.class, () -> client.getPlayerAsync("#ABC").join());
+        assertTrue(ex.getCause() instanceof NotFoundException);
+    }
+
+    @Test
+    void throttledAsyncCall_returnsWithoutBlockingCaller() throws Exception {
+        String json = "{\"tag\":\"#X\",\"name\":\"C\",\"clanLevel\":1,\"members\":1}";
+        HttpTransport fake = req -> new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1);
+        client.getClanAsync("#X").join();
+
+        long start = System.nanoTime();
+        CompletableFuture<Clan> throttled = client.getClanAsync("#X");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis < 500, "async call must not park the caller while throttled");
+        assertFalse(throttled.isDone());
+        assertEquals("C", throttled.get(5, TimeUnit.SECONDS).getName());
+    }
+
+    @Test
+    void asyncRequiresLogin() {
+        HttpTransport fake = req -> new HttpResponse(200, "{}".getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        assertThrows(IllegalStateException.class, () -> client.getMembersAsync("#2PP", null, null, null));
+    }
+}
@@ -0,0 +1,132 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.exceptions.NotFoundException;
+import com.clanboards.http.HttpRequest;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    private static HttpResponse playerResponse(HttpRequest req) {
+        String url = req.getUrl();
+        String tag = "#" + url.substring(url.lastIndexOf("%23") + 3);
+        if (tag.equals("#404")) return new HttpResponse(404, "{}".getBytes(StandardCharsets.UTF_8));
+        String json = "{\"tag\":\"" + tag + "\",\"name\":\"P" + tag + "\",\"townHallLevel\":12}";
+        return new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getPlayers_correctsDeduplicatesAndCollectsFailures() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        HttpTransport fake = req -> { urls.add(req.getUrl()); return playerResponse(req); };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+
+        BulkResult<Player> result = client.getPlayers(List.of("2pp", "#2PP", " 2pp ", "9ul", "404"), 4);
+
+        assertEquals(3, urls.size(), "duplicates must collapse to one request");
+        assertEquals(2, result.getResults().size());
+        assertEquals(12, result.getResults().get("#2PP").getTownHallLevel());
+        assertEquals("#9UL", result.getResults().get("#9UL").getTag());
+        assertTrue(result.getFailures().get("#404") instanceof NotFoundException);
+    }
+
+    @Test
+    void getClans_respectsInFlightLimit_andStreamsToListener() {
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger maxOutstanding = new AtomicInteger();
+        Executor later = CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS);
+        HttpTransport fake = new HttpTransport() {
+            @Override
+            public HttpResponse execute(HttpRequest request) {
+                throw new AssertionError("bulk lookups must use executeAsync");
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    outstanding.decrementAndGet();
+                    String json = "{\"tag\":\"#X\",\"name\":\"C\",\"clanLevel\":1,\"members\":1}";
+                    return new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+                }, later);
+            }
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 40; i++) tags.add("#C" + Integer.toString(i, 14).toUpperCase());
+        ConcurrentHashMap<String, Clan> seen = new ConcurrentHashMap<>();
+        client.getClans(tags, 3, new BulkListener<>() {
+            @Override
+            public void onResult(String tag, Clan value) { seen.put(tag, value); }
+
+            @Override
+            public void onFailure(String tag, RuntimeException error) { fail("unexpected failure for " + tag); }
+        });
+
+        assertEquals(40, seen.size());
+        assertTrue(maxOutstanding.get() <= 3, "in-flight limit exceeded: " + maxOutstanding.get());
+    }
+
+    @Test
+    void bulk_rejectsNonPositiveLimit() {
+        HttpTransport fake = BulkTest::playerResponse;
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        assertThrows(IllegalArgumentException.class, () -> client.getPlayers(List.of("#2PP"), 0));
+    }
+
+    @Test
+    void crawl_runsBlockingCallsConcurrentlyWithinLimit() {
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger maxOutstanding = new AtomicInteger();
+        HttpTransport fake = req -> {
+            int now = outstanding.incrementAndGet();
+            maxOutstanding.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            outstanding.decrementAndGet();
+            return playerResponse(req);
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < 40; i++) tags.add("#P" + Integer.toString(i, 8).replace('0', 'Q').toUpperCase());
+        tags.add("404");
+
+        BulkResult<String> result = client.crawl(tags, 8, tag -> client.getPlayer(tag).getName());
+
+        assertEquals(40, result.getResults().size());
+        assertEquals("P#PQ", result.getResults().get("#PQ"));
+        assertTrue(result.getFailures().get("#404") instanceof NotFoundException);
+        assertTrue(maxOutstanding.get() <= 8, "max in flight " + maxOutstanding.get());
+        assertTrue(maxOutstanding.get() > 1, "calls should overlap");
+    }
+}
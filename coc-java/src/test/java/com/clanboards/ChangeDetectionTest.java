@@ -0,0 +1,72 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.exceptions.NotFoundException;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeDetectionTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    @Test
+    void pollClan_reusesDecodedObjectWhileBodyIsUnchanged() {
+        String[] bodies = {
+                "{\"tag\":\"#2PP\",\"name\":\"Same\",\"members\":10}",
+                "{\"tag\":\"#2PP\",\"name\":\"Same\",\"members\":10}",
+                "{\"tag\":\"#2PP\",\"name\":\"Same\",\"members\":11}"
+        };
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> new HttpResponse(200, bodies[calls.getAndIncrement()].getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+
+        PollResult<Clan> first = client.pollClan("#2PP");
+        PollResult<Clan> second = client.pollClan("2pp");
+        PollResult<Clan> third = client.pollClanAsync("#2PP").join();
+        assertTrue(first.isChanged());
+        assertFalse(second.isChanged());
+        assertSame(first.getValue(), second.getValue());
+        assertTrue(third.isChanged());
+        assertEquals(11, third.getValue().getMemberCount());
+        assertEquals(3, calls.get());
+
+        client.clearPollState();
+        calls.set(2);
+        assertTrue(client.pollClan("#2PP").isChanged());
+    }
+
+    @Test
+    void forgetPlayerPollState_releasesOnlyThatTag() {
+        HttpTransport fake = req -> new HttpResponse(200, "{\"tag\":\"#2PP\",\"name\":\"P\"}".getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+
+        client.pollPlayer("#2PP");
+        client.pollPlayer("#9QQ");
+        client.forgetPlayerPollState("2pp");
+        assertTrue(client.pollPlayer("#2PP").isChanged());
+        assertFalse(client.pollPlayer("#9QQ").isChanged());
+    }
+
+    @Test
+    void pollPlayer_propagatesApiErrors() {
+        HttpTransport fake = req -> new HttpResponse(404, "{}".getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        assertThrows(NotFoundException.class, () -> client.pollPlayer("#P"));
+    }
+}
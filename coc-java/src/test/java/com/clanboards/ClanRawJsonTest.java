@@ -62,6 +62,10 @@ class ClanRawJsonTest {
         assertEquals(2, clans.size());
         assertNotNull(clans.get(0).getRawJson());
         assertEquals("#AAA", clans.get(0).getRawJson().path("tag").asText());
+        // each element keeps its own slice of the shared response body
+        assertEquals("#BBB", clans.get(1).getRawJson().path("tag").asText());
+        assertEquals(35, clans.get(1).getRawJson().path("members").asInt());
+        assertSame(clans.get(1).getRawJson(), clans.get(1).getRawJson());
     }
 
     @Test
@@ -75,4 +79,17 @@ class ClanRawJsonTest {
         assertNotNull(members.get(0).getRawJson());
         assertEquals("#P1", members.get(0).getRawJson().path("tag").asText());
     }
+
+    @Test
+    void rankings_decodeItemsRegardlessOfFieldOrder() {
+        String body = "{\"paging\":{\"cursors\":{\"after\":\"c1\"}},\"extra\":{\"nested\":[1,2]},"
+                + "\"items\":[{\"tag\":\"#R1\",\"name\":\"One\",\"location\":{\"id\":1},\"clanPoints\":50000,\"rank\":1}]}";
+        HttpTransport fake = req -> new HttpResponse(200, body.getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("token"), true);
+        client.login("email", "password");
+        List<RankedClan> ranked = client.getLocationClanRankings(32000006, null, null, null);
+        assertEquals(1, ranked.size());
+        assertEquals("#R1", ranked.get(0).getTag());
+        assertEquals(1, ranked.get(0).getRawJson().path("location").path("id").asInt());
+    }
 }
@@ -0,0 +1,134 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.exceptions.NotFoundException;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    @Test
+    void concurrentGetClan_sharesOneRequest() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        HttpTransport fake = req -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return new HttpResponse(200, "{\"tag\":\"#2PP\",\"name\":\"Shared\"}".getBytes(StandardCharsets.UTF_8));
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<Clan>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> client.getClan("#2PP"), pool));
+        }
+        // give every caller time to join the outstanding request
+        Thread.sleep(200);
+        release.countDown();
+
+        Clan first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Clan> f : results) {
+            assertSame(first, f.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        pool.shutdown();
+
+        client.getClan("#2PP", false);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void asyncCallers_shareFailure_andDisableIssuesEachRequest() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<HttpResponse> pending = new CompletableFuture<>();
+        HttpTransport fake = new HttpTransport() {
+            @Override
+            public HttpResponse execute(com.clanboards.http.HttpRequest request) {
+                calls.incrementAndGet();
+                return new HttpResponse(404, "{}".getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> executeAsync(com.clanboards.http.HttpRequest request) {
+                calls.incrementAndGet();
+                return pending;
+            }
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+
+        CompletableFuture<Player> a = client.getPlayerAsync("#ABC");
+        CompletableFuture<Player> b = client.getPlayerAsync("#ABC");
+        pending.complete(new HttpResponse(404, "{}".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(assertThrows(CompletionException.class, a::join).getCause() instanceof NotFoundException);
+        assertTrue(assertThrows(CompletionException.class, b::join).getCause() instanceof NotFoundException);
+        assertEquals(1, calls.get());
+
+        client.setRequestCoalescing(false);
+        assertFalse(client.isRequestCoalescingEnabled());
+        assertThrows(NotFoundException.class, () -> client.getPlayer("#ABC"));
+        assertThrows(NotFoundException.class, () -> client.getPlayer("#ABC"));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void sharedAsyncCall_isCancelledOnlyWhenEveryCallerCancels() {
+        List<CompletableFuture<HttpResponse>> sent = new CopyOnWriteArrayList<>();
+        HttpTransport fake = new HttpTransport() {
+            @Override
+            public HttpResponse execute(com.clanboards.http.HttpRequest request) {
+                return executeAsync(request).join();
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> executeAsync(com.clanboards.http.HttpRequest request) {
+                CompletableFuture<HttpResponse> f = new CompletableFuture<>();
+                sent.add(f);
+                return f;
+            }
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+
+        CompletableFuture<Player> a = client.getPlayerAsync("#ABC");
+        CompletableFuture<Player> b = client.getPlayerAsync("#ABC");
+        assertEquals(1, sent.size());
+        assertTrue(a.cancel(true));
+        assertFalse(sent.get(0).isCancelled(), "the other caller still waits");
+        assertTrue(b.cancel(true));
+        assertTrue(sent.get(0).isCancelled());
+
+        CompletableFuture<Player> c = client.getPlayerAsync("#ABC");
+        assertFalse(c.isDone());
+        assertEquals(2, sent.size(), "a new call replaces the abandoned one");
+    }
+}
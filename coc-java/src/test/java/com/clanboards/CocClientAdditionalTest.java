@@ -42,6 +42,7 @@ class CocClientAdditionalTest {
         List<Clan> out = client.searchClans("My Clan", 2);
         assertEquals(2, out.size());
         assertEquals("Alpha", out.get(0).getName());
+        out.remove(0); // mutable, as before paging support
         assertTrue(cap.get().getUrl().contains("/clans?"));
         assertTrue(cap.get().getUrl().contains("name=My+Clan"));
         assertTrue(cap.get().getUrl().contains("limit=2"));
@@ -57,6 +58,9 @@ class CocClientAdditionalTest {
         assertEquals(2, members.size());
         assertEquals("Player1", members.get(0).getName());
         assertEquals(100, members.get(0).getExpLevel());
+        members.sort((a, b) -> Integer.compare(b.getTrophies(), a.getTrophies())); // callers may reorder in place
+        assertEquals("Player2", members.get(0).getName());
+        assertTrue(members.remove(members.get(1)));
     }
 }
 
@@ -45,6 +45,16 @@ class CwlTest {
         assertEquals("#AAA", group.getClans().get(0).getTag());
     }
 
+    @Test
+    void getClanWarLeagueGroup_keepsNullWarTagsAsText() {
+        String json = "{\"state\":\"preparation\",\"rounds\":[{\"warTags\":[\"#WAR1\",null]}]}";
+        HttpTransport fake = req -> new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e","p");
+        ClanWarLeagueGroup group = client.getClanWarLeagueGroup("#2PP");
+        assertEquals(List.of("#WAR1", "null"), group.getRounds().get(0));
+    }
+
     @Test
     void getCwlWar_fetchesWar() {
         String json = "{\n  \"state\": \"inWar\", \n  \"teamSize\": 15, \n  \"clan\": {\"tag\": \"#AAA\", \"name\": \"Us\", \"stars\": 10, \"destructionPercentage\": 27.0}, \n  \"opponent\": {\"tag\": \"#BBB\", \"name\": \"Them\", \"stars\": 8, \"destructionPercentage\": 20.5}\n}";
@@ -0,0 +1,100 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpRequest;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PagingTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    // Three pages of two members each, linked by "after" cursors c1 and c2
+    private static HttpTransport threePages(List<String> urls) {
+        return (HttpRequest req) -> {
+            urls.add(req.getUrl());
+            String url = req.getUrl();
+            String json;
+            if (url.contains("after=c2")) {
+                json = "{\"items\":[{\"tag\":\"#E\"},{\"tag\":\"#F\"}],\"paging\":{\"cursors\":{\"before\":\"b2\"}}}";
+            } else if (url.contains("after=c1")) {
+                json = "{\"items\":[{\"tag\":\"#C\"},{\"tag\":\"#D\"}],\"paging\":{\"cursors\":{\"after\":\"c2\",\"before\":\"b1\"}}}";
+            } else {
+                json = "{\"items\":[{\"tag\":\"#A\"},{\"tag\":\"#B\"}],\"paging\":{\"cursors\":{\"after\":\"c1\"}}}";
+            }
+            return new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    void streamMembers_followsCursorsToTheEnd() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CocClient client = new CocClient(threePages(urls), singleTokenAuth("t"));
+        client.login("e", "p");
+        List<String> tags = client.streamMembers("#2PP", 2).map(ClanMember::getTag).collect(Collectors.toList());
+        assertEquals(List.of("#A", "#B", "#C", "#D", "#E", "#F"), tags);
+        assertEquals(3, urls.size());
+        assertTrue(urls.get(0).endsWith("/clans/%232PP/members?limit=2"));
+    }
+
+    @Test
+    void shortCircuit_stopsPaging() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CocClient client = new CocClient(threePages(urls), singleTokenAuth("t"));
+        client.login("e", "p");
+        try (var stream = client.streamLocationClanRankings(32000006, 2)) {
+            assertEquals("#A", stream.findFirst().orElseThrow().getTag());
+        }
+        // first page plus at most the prefetched second page
+        assertTrue(urls.size() <= 2);
+        assertTrue(urls.stream().noneMatch(u -> u.contains("after=c2")));
+    }
+
+    @Test
+    void close_sendsNoFurtherRequests() throws InterruptedException {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CocClient client = new CocClient(threePages(urls), singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1);
+        Stream<ClanMember> stream = client.streamMembers("#2PP", 2);
+        assertEquals(0, urls.size(), "nothing is requested before the stream is consumed");
+
+        Iterator<ClanMember> it = stream.iterator();
+        assertEquals("#A", it.next().getTag());
+        assertEquals(1, urls.size());
+        stream.close(); // the prefetch of the second page is still waiting for a permit
+        Thread.sleep(1300);
+        assertEquals(1, urls.size());
+    }
+
+    @Test
+    void iterator_exhaustsAndThrows() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CocClient client = new CocClient(threePages(urls), singleTokenAuth("t"));
+        client.login("e", "p");
+        Iterator<RankedPlayer> it = client.iterateLocationPlayerRankings(32000006, null);
+        int n = 0;
+        while (it.hasNext()) {
+            assertNotNull(it.next().getTag());
+            n++;
+        }
+        assertEquals(6, n);
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+}
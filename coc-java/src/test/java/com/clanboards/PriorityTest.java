@@ -0,0 +1,159 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpRequest;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import com.clanboards.throttle.Priority;
+import com.clanboards.token.Tenant;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityTest {
+    private static final String TAG_CHARS = "0289PYLQGRJCUV";
+
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    private static HttpTransport playerTransport(List<String> urls) {
+        return new HttpTransport() {
+            @Override
+            public HttpResponse execute(HttpRequest request) {
+                return executeAsync(request).join();
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                urls.add(request.getUrl());
+                String json = "{\"tag\":\"#2PP\",\"name\":\"P\"}";
+                return CompletableFuture.completedFuture(new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8)));
+            }
+        };
+    }
+
+    @Test
+    void view_sharesStateWithClient() {
+        CocClient client = new CocClient(playerTransport(new ArrayList<>()), singleTokenAuth("t"));
+        CocClient background = client.withPriority(Priority.BACKGROUND);
+        client.loginWithTokens(List.of("t"), 100);
+
+        assertEquals(Priority.BACKGROUND, background.getPriority());
+        assertEquals(Priority.NORMAL, client.getPriority());
+        assertSame(client, background.withPriority(Priority.NORMAL));
+        assertSame(client.getResponseCache(), background.getResponseCache());
+        assertEquals("t", background.getToken());
+
+        background.setBackgroundShare(0.3);
+        assertEquals(0.3, client.getBackgroundShare());
+        assertThrows(IllegalArgumentException.class, () -> client.setBackgroundShare(1.5));
+    }
+
+    @Test
+    void interactiveLookup_jumpsQueuedCrawl() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CocClient client = new CocClient(playerTransport(urls), singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 20);
+        CocClient crawler = client.withPriority(Priority.BACKGROUND);
+
+        List<CompletableFuture<Player>> crawl = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String tag = "#2" + TAG_CHARS.charAt(i / 14) + TAG_CHARS.charAt(i % 14);
+            crawl.add(crawler.getPlayerAsync(tag));
+        }
+        Player p = client.withPriority(Priority.INTERACTIVE).getPlayer("#PPP");
+        assertEquals("P", p.getName());
+
+        int sentAt = urls.indexOf(urls.stream().filter(u -> u.contains("PPP")).findFirst().orElseThrow());
+        assertTrue(sentAt <= 22, "interactive lookup sent ahead of the queued crawl, at " + sentAt);
+        crawl.forEach(CompletableFuture::join);
+        assertEquals(31, urls.size());
+    }
+
+    @Test
+    void tenantViews_countUsagePerTenant() {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CocClient client = new CocClient(playerTransport(urls), singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 100);
+        client.forTenant(Tenant.newBuilder("guild").weight(3).build());
+        CocClient guild = client.forTenant("guild").withPriority(Priority.BACKGROUND);
+
+        assertEquals("guild", guild.getTenant().getName());
+        assertEquals(3.0, guild.getTenant().getWeight());
+        assertEquals(Priority.BACKGROUND, guild.getPriority());
+        assertSame(client, client.forTenant("default"));
+        assertSame(guild.getTenant(), client.forTenant("guild").getTenant());
+
+        guild.getPlayer("#PPP");
+        guild.getPlayer("#PPQ");
+        client.getPlayer("#PPR");
+        assertEquals(2, guild.getTenant().getGrantedCount());
+        assertEquals(1, client.getTenant().getGrantedCount());
+        assertEquals(3, urls.size());
+    }
+
+    @Test
+    void queuedAsyncLookups_doNotRunOneAtATime() {
+        AtomicInteger delayMillis = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        HttpTransport blocking = request -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delayMillis.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            String json = "{\"tag\":\"#2PP\",\"name\":\"P\"}";
+            return new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+        };
+        CocClient client = new CocClient(blocking, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 5);
+        for (int i = 0; i < 5; i++) client.getPlayer("#2P" + TAG_CHARS.charAt(i));
+        maxRunning.set(0);
+
+        delayMillis.set(600);
+        List<CompletableFuture<Player>> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) queued.add(client.getPlayerAsync("#2Q" + TAG_CHARS.charAt(i)));
+        queued.forEach(CompletableFuture::join);
+        assertTrue(maxRunning.get() >= 2, "queued requests overlap, max in flight " + maxRunning.get());
+    }
+
+    @Test
+    void timeoutView_setsTimeoutOnItsRequests() {
+        List<Duration> timeouts = new CopyOnWriteArrayList<>();
+        HttpTransport transport = request -> {
+            timeouts.add(request.getTimeout() == null ? Duration.ZERO : request.getTimeout());
+            return new HttpResponse(200, "{\"tag\":\"#2PP\",\"name\":\"P\"}".getBytes(StandardCharsets.UTF_8));
+        };
+        CocClient client = new CocClient(transport, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 100);
+        CocClient quick = client.withPriority(Priority.INTERACTIVE).withTimeout(Duration.ofSeconds(3));
+
+        assertEquals(Duration.ofSeconds(3), quick.getTimeout());
+        assertEquals(Priority.INTERACTIVE, quick.getPriority());
+        assertSame(client, client.withTimeout(null));
+        assertSame(client, quick.withPriority(Priority.NORMAL).withTimeout(null));
+        assertThrows(IllegalArgumentException.class, () -> client.withTimeout(Duration.ZERO));
+
+        quick.getPlayer("#PPP");
+        client.getPlayer("#PPQ");
+        assertEquals(List.of(Duration.ofSeconds(3), Duration.ZERO), timeouts);
+    }
+}
@@ -5,8 +5,12 @@ import com.clanboards.http.HttpResponse;
 import com.clanboards.http.HttpTransport;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -71,5 +75,26 @@ class RankingsTest {
         List<RankedClan> clans = client.getLocationCapitalClanRankings(32000006, 1, null, null);
         assertEquals(1234, clans.get(0).getCapitalPoints());
     }
-}
 
+    @Test
+    void gzipRankings_decodeWithAndWithoutRawJson() throws IOException {
+        String json = "{\"items\":[{\"tag\":\"#AAA\",\"name\":\"Alpha\",\"clanPoints\":50000,\"rank\":1}],"
+                + "\"paging\":{\"cursors\":{\"after\":\"abc\"}}}";
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(buf)) {
+            gz.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] gzipped = buf.toByteArray();
+        HttpTransport fake = req -> new HttpResponse(200, gzipped, Map.of("Content-Encoding", List.of("gzip")));
+
+        CocClient streaming = new CocClient(fake, singleTokenAuth("t"));
+        streaming.login("e", "p");
+        assertEquals("Alpha", streaming.getLocationClanRankings(32000006, 1, null, null).get(0).getName());
+
+        CocClient raw = new CocClient(fake, singleTokenAuth("t"), true);
+        raw.login("e", "p");
+        RankedClan clan = raw.getLocationClanRankings(32000006, 1, null, null).get(0);
+        assertEquals(50000, clan.getPoints());
+        assertEquals(1, clan.getRawJson().get("rank").asInt());
+    }
+}
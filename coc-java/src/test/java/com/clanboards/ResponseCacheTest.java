@@ -0,0 +1,131 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.cache.ResponseCache;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    private static HttpResponse ok(String json, String cacheControl) {
+        Map<String, List<String>> headers = cacheControl == null ? Map.of() : Map.of("cache-control", List.of(cacheControl));
+        return new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8), headers);
+    }
+
+    @Test
+    void getClan_servedFromCacheWithinMaxAge() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> {
+            calls.incrementAndGet();
+            return ok("{\"tag\":\"#2PP\",\"name\":\"Cached\"}", "public max-age=600");
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        assertEquals("Cached", client.getClan("#2PP").getName());
+        assertEquals("Cached", client.getClan("2pp").getName());
+        assertEquals("Cached", client.getClanAsync("#2PP").join().getName());
+        assertEquals(1, calls.get());
+        assertEquals(2, client.getResponseCache().getHitCount());
+        assertEquals(1, client.getResponseCache().getMissCount());
+
+        client.getClan("#2PP", false);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void responsesWithoutMaxAge_andWars_areNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> {
+            calls.incrementAndGet();
+            if (req.getUrl().endsWith("/currentwar")) {
+                return ok("{\"state\":\"inWar\"}", "max-age=120");
+            }
+            return ok("{\"tag\":\"#P\",\"name\":\"NoHeader\"}", null);
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        client.getPlayer("#P");
+        client.getPlayer("#P");
+        client.getCurrentWar("#2PP");
+        client.getCurrentWar("#2PP");
+        assertEquals(4, calls.get());
+        assertEquals(0, client.getResponseCache().size());
+    }
+
+    @Test
+    void cache_evictsOldestBeyondCapacity() {
+        ResponseCache cache = new ResponseCache(2);
+        HttpResponse resp = ok("{}", "max-age=60");
+        assertTrue(cache.put("a", resp));
+        assertTrue(cache.put("b", resp));
+        assertTrue(cache.put("c", resp));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get("a"));
+        assertSame(resp, cache.get("c"));
+        assertFalse(cache.put("d", ok("{}", "no-store, max-age=60")));
+    }
+
+    @Test
+    void repeatedPutsAndRenewals_keepOneNodePerUrl() {
+        ResponseCache cache = new ResponseCache(10);
+        HttpResponse tagged = new HttpResponse(200, "{}".getBytes(StandardCharsets.UTF_8),
+                Map.of("cache-control", List.of("max-age=60"), "etag", List.of("\"v1\"")));
+        HttpResponse notModified = new HttpResponse(304, new byte[0], Map.of("cache-control", List.of("max-age=60")));
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 5; i++) {
+                cache.put("u" + i, tagged);
+                assertSame(tagged, cache.revalidate("u" + i, notModified));
+            }
+        }
+        assertEquals(5, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        // a re-put or renewal makes the URL the newest, so the untouched u1 goes first
+        cache.put("u0", tagged);
+        for (int i = 5; i < 11; i++) cache.put("u" + i, tagged);
+        assertEquals(10, cache.size());
+        assertNull(cache.getForRevalidation("u1"));
+        assertNotNull(cache.getForRevalidation("u0"));
+    }
+
+    @Test
+    void expiredResponseWithEtag_isRevalidatedWithConditionalGet() {
+        AtomicInteger calls = new AtomicInteger();
+        List<String> conditions = new java.util.ArrayList<>();
+        HttpTransport fake = req -> {
+            int n = calls.incrementAndGet();
+            conditions.add(String.valueOf(req.getHeaders().get("If-None-Match")));
+            if (n == 1) {
+                return new HttpResponse(200, "{\"tag\":\"#2PP\",\"name\":\"Tagged\"}".getBytes(StandardCharsets.UTF_8),
+                        Map.of("etag", List.of("\"v1\""), "cache-control", List.of("no-cache")));
+            }
+            return new HttpResponse(304, new byte[0], Map.of("cache-control", List.of("max-age=600")));
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.login("e", "p");
+        assertEquals("Tagged", client.getClan("#2PP").getName());
+        assertEquals("Tagged", client.getClan("#2PP").getName());
+        // The 304 restarted freshness, so the third lookup never reaches the transport
+        assertEquals("Tagged", client.getClanAsync("#2PP").join().getName());
+        assertEquals(2, calls.get());
+        assertEquals(List.of("null", "\"v1\""), conditions);
+        assertEquals(1, client.getResponseCache().getRevalidationCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.clanboards;
+
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import com.clanboards.resilience.ExponentialBackoffRetryPolicy;
+import com.clanboards.resilience.RetryBudget;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    private static final byte[] CLAN = "{\"tag\":\"#2PP\",\"name\":\"Retried\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static ExponentialBackoffRetryPolicy.Builder fastPolicy() {
+        return ExponentialBackoffRetryPolicy.newBuilder().baseDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(5)).budget(null);
+    }
+
+    @Test
+    void gatewayErrors_areRetriedUntilSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> switch (calls.incrementAndGet()) {
+            case 1 -> new HttpResponse(502, new byte[0]);
+            case 2 -> new HttpResponse(503, new byte[0]);
+            default -> new HttpResponse(200, CLAN);
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+        client.setRetryPolicy(fastPolicy().build());
+        assertEquals("Retried", client.getClan("#2PP", false).getName());
+        assertEquals(3, calls.get());
+
+        calls.set(0);
+        assertEquals("Retried", client.getClanAsync("#2PP").join().getName());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void timeouts_areRetried_butClientErrorsAreNot() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> {
+            if (calls.incrementAndGet() == 1) throw new RuntimeException("HTTP I/O error", new HttpTimeoutException("slow"));
+            return req.getUrl().contains("%23404") ? new HttpResponse(404, new byte[0]) : new HttpResponse(200, CLAN);
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+        client.setRetryPolicy(fastPolicy().build());
+        assertEquals("Retried", client.getClan("#2PP").getName());
+        assertEquals(2, calls.get());
+
+        assertThrows(com.clanboards.exceptions.NotFoundException.class, () -> client.getClan("#404"));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void throttledRetries_honourRetryAfterAndLimit() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> {
+            calls.incrementAndGet();
+            return new HttpResponse(429, new byte[0], Map.of("Retry-After", List.of("0")));
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t", "u"), 1000);
+        client.setRetryPolicy(fastPolicy().maxThrottledRetries(2).build());
+        assertThrows(RuntimeException.class, () -> client.getClan("#2PP"));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void exhaustedBudget_stopsRetries() {
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> {
+            calls.incrementAndGet();
+            return new HttpResponse(500, new byte[0]);
+        };
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+        client.setRetryPolicy(fastPolicy().budget(new RetryBudget(0.0, 0)).build());
+        assertThrows(RuntimeException.class, () -> client.getClan("#2PP"));
+        assertEquals(1, calls.get());
+    }
+}
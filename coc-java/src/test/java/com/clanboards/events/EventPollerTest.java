@@ -0,0 +1,169 @@
+package com.clanboards.events;
+
+import com.clanboards.ClanMember;
+import com.clanboards.CocClient;
+import com.clanboards.Player;
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpRequest;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import com.clanboards.util.TagUtil;
+import com.clanboards.wars.ClanWar;
+import com.clanboards.wars.WarAttack;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventPollerTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    private static CocClient client(HttpTransport transport) {
+        CocClient client = new CocClient(transport, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+        return client;
+    }
+
+    private static HttpResponse ok(String json) {
+        return new HttpResponse(200, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void clanPoll_reportsJoinLeaveAndTrophyChanges() {
+        String[] pages = {
+                "{\"items\":[{\"tag\":\"#A\",\"trophies\":100},{\"tag\":\"#B\",\"trophies\":200}]}",
+                "{\"items\":[{\"tag\":\"#A\",\"trophies\":150},{\"tag\":\"#C\",\"trophies\":300}]}"
+        };
+        AtomicInteger call = new AtomicInteger();
+        CocClient client = client(req -> ok(pages[Math.min(call.getAndIncrement(), 1)]));
+        List<String> events = new ArrayList<>();
+        EventPoller poller = new EventPoller(client, Duration.ofSeconds(1));
+        poller.addClanListener(new ClanEventListener() {
+            @Override
+            public void onMemberJoin(String clanTag, ClanMember member) { events.add("join " + member.getTag()); }
+
+            @Override
+            public void onMemberLeave(String clanTag, ClanMember member) { events.add("leave " + member.getTag()); }
+
+            @Override
+            public void onMemberTrophiesChange(String clanTag, ClanMember before, ClanMember after) {
+                events.add("trophies " + after.getTag() + " " + before.getTrophies() + "->" + after.getTrophies());
+            }
+        });
+        poller.addClan("2pp");
+
+        poller.tick(); // baseline
+        assertTrue(events.isEmpty());
+        poller.tick();
+        assertEquals(List.of("trophies #A 100->150", "join #C", "leave #B"), events);
+    }
+
+    @Test
+    void tagsAreSpreadEvenlyAcrossTicks() {
+        List<String> urls = new ArrayList<>();
+        CocClient client = client(req -> {
+            urls.add(req.getUrl());
+            return ok("{\"tag\":\"#P\",\"trophies\":1}");
+        });
+        EventPoller poller = new EventPoller(client, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        for (int i = 1; i <= 100; i++) poller.addPlayer(TagUtil.unpackTag(i));
+        assertEquals(100, poller.getTrackedCount());
+        for (int t = 0; t < 10; t++) {
+            int before = urls.size();
+            poller.tick();
+            assertEquals(10, urls.size() - before);
+        }
+        assertEquals(100, urls.stream().distinct().count());
+    }
+
+    @Test
+    void playerTrophyChange_andErrorsReachListener() {
+        AtomicInteger call = new AtomicInteger();
+        CocClient client = client(req -> switch (call.getAndIncrement()) {
+            case 0 -> ok("{\"tag\":\"#P\",\"trophies\":5000}");
+            case 1 -> new HttpResponse(500, "{}".getBytes(StandardCharsets.UTF_8));
+            default -> ok("{\"tag\":\"#P\",\"trophies\":5032}");
+        });
+        List<String> events = new ArrayList<>();
+        EventPoller poller = new EventPoller(client, Duration.ofSeconds(1));
+        poller.addPlayerListener(new PlayerEventListener() {
+            @Override
+            public void onTrophiesChange(Player before, Player after) {
+                events.add(before.getTrophies() + "->" + after.getTrophies());
+            }
+
+            @Override
+            public void onError(String playerTag, RuntimeException error) { events.add("error " + playerTag); }
+        });
+        poller.addPlayer("#P");
+        poller.tick();
+        poller.tick();
+        poller.tick();
+        assertEquals(List.of("error #P", "5000->5032"), events);
+    }
+
+    @Test
+    void removedPlayer_releasesPollStateAfterInFlightPoll() {
+        HttpResponse body = ok("{\"tag\":\"#P\",\"trophies\":5000}");
+        CompletableFuture<HttpResponse> first = new CompletableFuture<>();
+        AtomicInteger call = new AtomicInteger();
+        CocClient client = client(new HttpTransport() {
+            @Override
+            public HttpResponse execute(HttpRequest request) {
+                return executeAsync(request).join();
+            }
+
+            @Override
+            public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+                return call.getAndIncrement() == 0 ? first : CompletableFuture.completedFuture(body);
+            }
+        });
+        EventPoller poller = new EventPoller(client, Duration.ofSeconds(1));
+        poller.addPlayer("#P");
+        poller.tick();
+        poller.removePlayer("#P");
+        first.complete(body); // the late poll stores its state, then the target releases it
+
+        assertTrue(client.pollPlayer("#P").isChanged(), "no state left from the removed target");
+        assertFalse(client.pollPlayer("#P").isChanged());
+    }
+
+    @Test
+    void warPoll_reportsNewAttacksInOrder() {
+        String prep = "{\"state\":\"preparation\",\"clan\":{\"tag\":\"#C\"},\"opponent\":{\"tag\":\"#O\"}}";
+        String first = "{\"state\":\"inWar\",\"clan\":{\"tag\":\"#C\",\"members\":[{\"tag\":\"#A\",\"attacks\":[{\"order\":1,\"stars\":2}]}]},\"opponent\":{\"tag\":\"#O\"}}";
+        String more = "{\"state\":\"inWar\",\"clan\":{\"tag\":\"#C\",\"attacks\":2,\"members\":[{\"tag\":\"#A\",\"attacks\":[{\"order\":1,\"stars\":2},{\"order\":3,\"stars\":3}]}]},"
+                + "\"opponent\":{\"tag\":\"#O\",\"members\":[{\"tag\":\"#X\",\"attacks\":[{\"order\":2,\"stars\":1}]}]}}";
+        String[] wars = {prep, first, more};
+        AtomicInteger call = new AtomicInteger();
+        CocClient client = client(req -> ok(wars[Math.min(call.getAndIncrement(), 2)]));
+        List<String> events = new ArrayList<>();
+        EventPoller poller = new EventPoller(client, Duration.ofSeconds(1));
+        poller.addWarListener(new WarEventListener() {
+            @Override
+            public void onWarAttack(String clanTag, ClanWar war, WarAttack attack) { events.add("attack " + attack.getOrder()); }
+
+            @Override
+            public void onWarStateChange(String clanTag, ClanWar before, ClanWar after) { events.add(after.getState()); }
+        });
+        poller.addWar("#C");
+        poller.tick();
+        poller.tick();
+        poller.tick();
+        assertEquals(List.of("inWar", "attack 1", "attack 2", "attack 3"), events);
+        assertEquals(3, call.get());
+    }
+}
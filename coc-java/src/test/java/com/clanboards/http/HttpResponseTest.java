@@ -0,0 +1,175 @@
+package com.clanboards.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpResponseTest {
+    private static final byte[] JSON = "{\"name\":\"Compressed\",\"members\":50}".repeat(20).getBytes(StandardCharsets.UTF_8);
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buf)) {
+            out.write(data);
+        }
+        return buf.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data, boolean nowrap) throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buf, new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap))) {
+            out.write(data);
+        }
+        return buf.toByteArray();
+    }
+
+    private static HttpResponse encoded(byte[] body, String encoding) {
+        return new HttpResponse(200, body, new String[] {"Content-Encoding", encoding}, -1L, body.length);
+    }
+
+    @Test
+    void flatHeaders_lookupIsCaseInsensitiveAndKeepsRepeats() {
+        HttpResponse resp = new HttpResponse(200, new byte[0],
+                new String[] {"cache-control", "max-age=60", "Set-Cookie", "a=1", "set-cookie", "b=2"}, 1234L, 0L);
+        assertEquals("max-age=60", resp.getHeader("Cache-Control"));
+        assertEquals("a=1", resp.getHeader("SET-COOKIE"));
+        assertNull(resp.getHeader("ETag"));
+        assertEquals(3, resp.getHeaderCount());
+        assertEquals("set-cookie", resp.getHeaderName(2));
+        assertEquals("b=2", resp.getHeaderValue(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> resp.getHeaderValue(3));
+        assertThrows(IllegalArgumentException.class, () -> new HttpResponse(200, null, new String[] {"x"}, -1L, -1L));
+    }
+
+    @Test
+    void mapHeaders_areFlattenedAndMetricsUnknown() {
+        HttpResponse resp = new HttpResponse(200, null, Map.of("Retry-After", List.of("3")));
+        assertEquals("3", resp.getHeader("retry-after"));
+        assertEquals(1, resp.getHeaderCount());
+        assertEquals(-1L, resp.getElapsedNanos());
+        assertEquals(-1L, resp.getWireBytes());
+    }
+
+    @Test
+    void defaultTransport_recordsHeadersTimingAndWireBytes() throws Exception {
+        byte[] payload = "{\"name\":\"Local\"}".getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/clans", exchange -> {
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=120");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(payload);
+            }
+        });
+        server.start();
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/clans";
+            HttpRequest req = HttpRequest.newBuilder().method(HttpRequest.Method.GET).url(url).build();
+            DefaultHttpTransport transport = new DefaultHttpTransport();
+            for (HttpResponse resp : List.of(transport.execute(req), transport.executeAsync(req).join())) {
+                assertEquals(200, resp.getStatusCode());
+                assertEquals("max-age=120", resp.getHeader("cache-control"));
+                assertTrue(resp.getElapsedNanos() > 0);
+                assertEquals(payload.length, resp.getWireBytes());
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void compressedBodies_inflateOnReadAndOnGetBody() throws IOException {
+        for (HttpResponse resp : List.of(encoded(gzip(JSON), "gzip"), encoded(deflate(JSON, false), "deflate"),
+                encoded(deflate(JSON, true), "deflate"))) {
+            assertTrue(resp.isCompressed());
+            assertTrue(resp.getWireBytes() < JSON.length);
+            try (InputStream in = resp.openBody()) {
+                assertArrayEquals(JSON, in.readAllBytes());
+            }
+            byte[] body = resp.getBody();
+            assertArrayEquals(JSON, body);
+            assertSame(body, resp.getBody());
+        }
+        HttpResponse plain = new HttpResponse(200, JSON);
+        assertFalse(plain.isCompressed());
+        assertSame(JSON, plain.getBody());
+    }
+
+    @Test
+    void defaultTransport_negotiatesGzip() throws Exception {
+        byte[] compressed = gzip(JSON);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/rankings", exchange -> {
+            String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gz = accept != null && accept.contains("gzip");
+            byte[] out = gz ? compressed : JSON;
+            if (gz) exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, out.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(out);
+            }
+        });
+        server.start();
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/rankings";
+            HttpResponse resp = new DefaultHttpTransport()
+                    .execute(HttpRequest.newBuilder().method(HttpRequest.Method.GET).url(url).build());
+            assertTrue(resp.isCompressed());
+            assertEquals(compressed.length, resp.getWireBytes());
+            assertArrayEquals(JSON, resp.getBody());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void builtTransport_appliesPerRequestTimeoutOverDefault() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            DefaultHttpTransport transport = DefaultHttpTransport.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .cookies(false)
+                    .compression(false)
+                    .requestTimeout(Duration.ofSeconds(10))
+                    .build();
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow";
+            HttpRequest hurried = HttpRequest.newBuilder().method(HttpRequest.Method.GET).url(url)
+                    .timeout(Duration.ofMillis(100)).build();
+            RuntimeException e = assertThrows(RuntimeException.class, () -> transport.execute(hurried));
+            assertTrue(e.getCause() instanceof HttpTimeoutException, String.valueOf(e.getCause()));
+            HttpRequest patient = HttpRequest.newBuilder().method(HttpRequest.Method.GET).url(url).build();
+            assertEquals(204, transport.execute(patient).getStatusCode());
+        } finally {
+            server.stop(0);
+        }
+        assertThrows(IllegalArgumentException.class, () -> DefaultHttpTransport.newBuilder().connectTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> HttpRequest.newBuilder().timeout(Duration.ofMillis(-1)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.clanboards.resilience;
+
+import com.clanboards.CocClient;
+import com.clanboards.auth.Authenticator;
+import com.clanboards.events.MaintenanceListener;
+import com.clanboards.exceptions.MaintenanceException;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    @Test
+    void halfOpen_admitsSingleProbe() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofMillis(30));
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(40);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only one probe while half-open");
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+
+        Thread.sleep(40);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void client_failsFastDuringMaintenance_andReportsStartAndEnd() throws InterruptedException {
+        AtomicBoolean down = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        HttpTransport fake = req -> {
+            calls.incrementAndGet();
+            return down.get() ? new HttpResponse(503, new byte[0])
+                    : new HttpResponse(200, "{\"tag\":\"#2PP\",\"name\":\"Back\"}".getBytes(StandardCharsets.UTF_8));
+        };
+        List<String> events = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofMillis(50));
+        breaker.addMaintenanceListener(new MaintenanceListener() {
+            @Override
+            public void onMaintenanceStart() { events.add("start"); }
+
+            @Override
+            public void onMaintenanceEnd(Duration downtime) { events.add("end"); }
+        });
+        CocClient client = new CocClient(fake, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("t"), 1000);
+        client.setCircuitBreaker(breaker);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(MaintenanceException.class, () -> client.getClan("#2PP"));
+        }
+        assertEquals(List.of("start"), events);
+        assertThrows(MaintenanceException.class, () -> client.getClan("#2PP"));
+        CompletionException async = assertThrows(CompletionException.class, () -> client.getClanAsync("#2PP").join());
+        assertTrue(async.getCause() instanceof MaintenanceException);
+        assertEquals(3, calls.get(), "open circuit must not reach the transport");
+
+        down.set(false);
+        Thread.sleep(60);
+        assertEquals("Back", client.getClan("#2PP").getName());
+        assertEquals(List.of("start", "end"), events);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,65 @@
+package com.clanboards.resilience;
+
+import com.clanboards.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentialBackoffRetryPolicyTest {
+
+    @Test
+    void backoff_growsExponentiallyWithJitterUpToCap() {
+        RetryPolicy policy = ExponentialBackoffRetryPolicy.newBuilder()
+                .baseDelay(Duration.ofMillis(100)).maxDelay(Duration.ofMillis(350)).budget(null).build();
+        HttpResponse bad = new HttpResponse(502, new byte[0]);
+        long ms = TimeUnit.MILLISECONDS.toNanos(1);
+        for (int i = 0; i < 50; i++) {
+            long first = policy.retryDelayNanos(1, bad, null);
+            long third = policy.retryDelayNanos(3, bad, null);
+            long fifth = policy.retryDelayNanos(5, bad, null);
+            assertTrue(first >= 50 * ms && first <= 100 * ms, "first " + first);
+            assertTrue(third >= 175 * ms && third <= 350 * ms, "third " + third);
+            assertTrue(fifth >= 175 * ms && fifth <= 350 * ms, "fifth " + fifth);
+        }
+        assertEquals(-1L, policy.retryDelayNanos(6, bad, null));
+        assertEquals(-1L, policy.retryDelayNanos(1, new HttpResponse(501, new byte[0]), null));
+        assertEquals(-1L, policy.retryDelayNanos(1, null, new IllegalStateException("not a timeout")));
+    }
+
+    @Test
+    void retryAfter_raisesDelayOrPreventsRetry() {
+        RetryPolicy policy = ExponentialBackoffRetryPolicy.newBuilder()
+                .baseDelay(Duration.ofMillis(1)).maxRetryAfter(Duration.ofSeconds(30)).budget(null).build();
+        HttpResponse wait5 = new HttpResponse(429, new byte[0], Map.of("Retry-After", List.of("5")));
+        assertEquals(TimeUnit.SECONDS.toNanos(5), policy.retryDelayNanos(1, wait5, null));
+        HttpResponse wait90 = new HttpResponse(503, new byte[0], Map.of("Retry-After", List.of("90")));
+        assertEquals(-1L, policy.retryDelayNanos(1, wait90, null));
+
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(20));
+        long parsed = ExponentialBackoffRetryPolicy.parseRetryAfterNanos(date);
+        assertTrue(parsed > TimeUnit.SECONDS.toNanos(18) && parsed <= TimeUnit.SECONDS.toNanos(20), "parsed " + parsed);
+        assertEquals(-1L, ExponentialBackoffRetryPolicy.parseRetryAfterNanos("soon"));
+    }
+
+    @Test
+    void budget_allowsRatioOfTrafficPlusFloor() {
+        RetryBudget budget = new RetryBudget(0.25, 0);
+        for (int i = 0; i < 8; i++) budget.deposit();
+        assertEquals(2, budget.getAvailable());
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        RetryBudget floor = new RetryBudget(0.0, 1);
+        assertTrue(floor.tryWithdraw());
+        assertFalse(floor.tryWithdraw());
+    }
+}
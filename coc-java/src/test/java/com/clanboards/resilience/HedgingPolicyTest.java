@@ -0,0 +1,104 @@
+package com.clanboards.resilience;
+
+import com.clanboards.CocClient;
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpRequest;
+import com.clanboards.http.HttpResponse;
+import com.clanboards.http.HttpTransport;
+import com.clanboards.wars.ClanWar;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingPolicyTest {
+    private static final String WAR = "{\"state\":\"inWar\",\"teamSize\":5,"
+            + "\"clan\":{\"tag\":\"#AAA\",\"name\":\"Us\"},\"opponent\":{\"tag\":\"#BBB\",\"name\":\"Them\"}}";
+
+    private static Authenticator singleTokenAuth(String token) {
+        return new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of(token);
+            }
+        };
+    }
+
+    /** Answers requests on token "slow" after a second and on any other token at once. */
+    private static final class SlowTokenTransport implements HttpTransport {
+        final List<String> auths = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<HttpResponse>> slow = new CopyOnWriteArrayList<>();
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return executeAsync(request).join();
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+            String auth = request.getHeaders().get("Authorization");
+            auths.add(auth);
+            HttpResponse resp = new HttpResponse(200, WAR.getBytes(StandardCharsets.UTF_8));
+            if (!auth.equals("Bearer slow")) return CompletableFuture.completedFuture(resp);
+            CompletableFuture<HttpResponse> f = new CompletableFuture<>();
+            CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS).execute(() -> f.complete(resp));
+            slow.add(f);
+            return f;
+        }
+    }
+
+    private static HedgingPolicy fastPolicy() {
+        return HedgingPolicy.newBuilder().minDelay(Duration.ofMillis(20)).maxDelay(Duration.ofMillis(20)).build();
+    }
+
+    @Test
+    void delay_followsPercentileWithinBounds() {
+        HedgingPolicy policy = HedgingPolicy.newBuilder()
+                .percentile(0.9).minDelay(Duration.ofMillis(5)).maxDelay(Duration.ofMillis(500)).minSamples(16).build();
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), policy.getDelayNanos());
+        for (int i = 1; i <= 32; i++) policy.record(TimeUnit.MILLISECONDS.toNanos(i * 10L));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(290), policy.getDelayNanos());
+        for (int i = 0; i < 256; i++) policy.record(TimeUnit.MICROSECONDS.toNanos(100));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), policy.getDelayNanos());
+        assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.newBuilder().percentile(1.0));
+    }
+
+    @Test
+    void slowWarRead_isHedgedOnOtherToken_andLoserCancelled() {
+        SlowTokenTransport transport = new SlowTokenTransport();
+        CocClient client = new CocClient(transport, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("slow", "fast"), 1000);
+        HedgingPolicy policy = fastPolicy();
+        client.setHedgingPolicy(policy);
+
+        long start = System.nanoTime();
+        ClanWar war = null;
+        for (int i = 0; i < 4 && transport.slow.isEmpty(); i++) war = client.getCurrentWar("#2PP");
+        assertNotNull(war);
+        assertEquals("inWar", war.getState());
+        assertFalse(transport.slow.isEmpty(), "a request went to the slow token");
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(900), "hedge answered first");
+        assertEquals(1, policy.getHedgeCount());
+        assertEquals(1, policy.getHedgeWinCount());
+        assertTrue(transport.slow.get(0).isCancelled(), "losing request is cancelled");
+    }
+
+    @Test
+    void singleToken_neverHedges() {
+        SlowTokenTransport transport = new SlowTokenTransport();
+        CocClient client = new CocClient(transport, singleTokenAuth("t"));
+        client.loginWithTokens(List.of("slow"), 1000);
+        HedgingPolicy policy = fastPolicy();
+        client.setHedgingPolicy(policy);
+
+        assertEquals("inWar", client.getCurrentWarAsync("#2PP").join().getState());
+        assertEquals(1, transport.auths.size());
+        assertEquals(0, policy.getHedgeCount());
+    }
+}
@@ -0,0 +1,70 @@
+package com.clanboards.throttle;
+
+import com.clanboards.CocClient;
+import com.clanboards.auth.Authenticator;
+import com.clanboards.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateControllerTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(900);
+
+    private static void sleepPast(Duration window) throws InterruptedException {
+        Thread.sleep(window.toMillis() + 5);
+    }
+
+    @Test
+    void healthyWindows_increaseAdditivelyUpToMax() throws InterruptedException {
+        Duration window = Duration.ofMillis(20);
+        AdaptiveRateController c = AdaptiveRateController.newBuilder(2, 4).increase(1).window(window).build();
+        assertEquals(2.0, c.getRate());
+        for (int round = 0; round < 4; round++) {
+            c.onResponse(200, FAST);
+            sleepPast(window);
+            c.onResponse(200, FAST);
+        }
+        assertEquals(4.0, c.getRate());
+        assertNotNull(c.getLastP99());
+    }
+
+    @Test
+    void throttling_cutsOncePerWindow_andSlowP99CutsAtWindowEnd() throws InterruptedException {
+        Duration window = Duration.ofMillis(50);
+        AdaptiveRateController c = AdaptiveRateController.newBuilder(1, 100)
+                .initialRate(40).decrease(0.5).latencyTarget(Duration.ofMillis(500)).window(window).build();
+        assertTrue(c.onResponse(429, -1));
+        assertFalse(c.onResponse(429, -1), "429s from the same burst count once");
+        assertEquals(20.0, c.getRate());
+
+        sleepPast(window);
+        for (int i = 0; i < 99; i++) c.onResponse(200, FAST);
+        c.onResponse(200, SLOW);
+        c.onResponse(200, SLOW);
+        sleepPast(window);
+        assertTrue(c.onResponse(200, FAST));
+        assertEquals(10.0, c.getRate());
+    }
+
+    @Test
+    void client_appliesControllerRateToItsLimiters() {
+        Authenticator auth = new Authenticator() {
+            @Override
+            public List<String> obtainTokens(String email, String password, int count) {
+                return List.of("t");
+            }
+        };
+        CocClient client = new CocClient(req -> new HttpResponse(429, new byte[0]), auth);
+        client.loginWithTokens(List.of("a", "b"), 30);
+        assertEquals(60.0, client.getEffectiveRate(), 0.01);
+        client.setAdaptiveRateControl(AdaptiveRateController.newBuilder(5, 50).initialRate(20).build());
+        assertEquals(40.0, client.getEffectiveRate(), 0.01);
+        assertThrows(RuntimeException.class, () -> client.getClan("#2PP"));
+        assertEquals(20.0, client.getEffectiveRate(), 0.01);
+    }
+}
@@ -0,0 +1,87 @@
+package com.clanboards.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void burstUpToCapacity_thenSpacedByInterval() {
+        // 10 per minute -> one permit every 6 seconds once the burst is spent
+        RateLimiter limiter = new RateLimiter(10, 60_000);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0L, limiter.reserve(), "permit " + i + " should be immediate");
+        }
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+        assertTrue(first > TimeUnit.SECONDS.toNanos(5) && first <= TimeUnit.SECONDS.toNanos(6), "delay " + first);
+        assertTrue(second - first > TimeUnit.SECONDS.toNanos(5), "reservations must queue behind each other");
+    }
+
+    @Test
+    void tryAcquire_doesNotConsumeCapacityWhenRefused() {
+        RateLimiter limiter = new RateLimiter(1, 60_000);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire(10, TimeUnit.MILLISECONDS));
+        long delay = limiter.reserve();
+        assertTrue(delay <= TimeUnit.SECONDS.toNanos(60) && delay > TimeUnit.SECONDS.toNanos(59),
+                "refused attempts must not push the next slot back: " + delay);
+    }
+
+    @Test
+    void tryAcquireWithTimeout_waitsForSlotWithinTimeout() {
+        RateLimiter limiter = new RateLimiter(1, 20);
+        assertTrue(limiter.tryAcquire());
+        long start = System.nanoTime();
+        assertTrue(limiter.tryAcquire(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(15));
+    }
+
+    @Test
+    void concurrentReservations_neverShareASlot() throws Exception {
+        RateLimiter limiter = new RateLimiter(10, 60_000);
+        int threads = 64;
+        long[] delays = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int idx = i;
+            workers[i] = new Thread(() -> {
+                try { start.await(); } catch (InterruptedException e) { return; }
+                delays[idx] = limiter.reserve();
+            });
+            workers[i].start();
+        }
+        start.countDown();
+        for (Thread w : workers) w.join();
+
+        Arrays.sort(delays);
+        long immediate = Arrays.stream(delays).filter(d -> d == 0).count();
+        assertEquals(10, immediate);
+        long interval = TimeUnit.SECONDS.toNanos(6);
+        // 54 queued reservations -> the last one is ~54 intervals out
+        assertTrue(delays[threads - 1] > interval * 53, "last delay " + delays[threads - 1]);
+        for (int i = 11; i < threads; i++) {
+            assertTrue(delays[i] - delays[i - 1] > interval - TimeUnit.SECONDS.toNanos(1), "slots must be distinct");
+        }
+    }
+
+    @Test
+    void setRate_changesSpacingButKeepsBurstSize() {
+        RateLimiter limiter = new RateLimiter(2, 1000);
+        limiter.setRate(0.5);
+        assertEquals(TimeUnit.SECONDS.toNanos(2), limiter.getIntervalNanos());
+        assertEquals(0.5, limiter.getRate(), 1e-9);
+        assertEquals(0L, limiter.reserve());
+        assertEquals(0L, limiter.reserve());
+        long next = limiter.reserve();
+        assertTrue(next > TimeUnit.MILLISECONDS.toNanos(1900), "delay " + next);
+        assertThrows(IllegalArgumentException.class, () -> limiter.setRate(0));
+    }
+}
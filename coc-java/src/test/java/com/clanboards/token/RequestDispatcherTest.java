@@ -0,0 +1,161 @@
+package com.clanboards.token;
+
+import com.clanboards.throttle.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestDispatcherTest {
+
+    /** Uses up the initial burst so that later requests have to queue. */
+    private static void drainBurst(RequestDispatcher dispatcher, int permits) {
+        for (int i = 0; i < permits; i++) {
+            CompletableFuture<TokenScheduler.Reservation> f = dispatcher.reserve(Priority.NORMAL);
+            assertTrue(f.isDone(), "burst permits are granted at once");
+            dispatcher.getScheduler().complete(f.join(), 200);
+        }
+    }
+
+    private static CompletableFuture<Void> enqueue(RequestDispatcher dispatcher, Priority priority, StringBuffer order) {
+        return dispatcher.reserve(priority).thenAccept(r -> {
+            order.append(priority.name().charAt(0));
+            dispatcher.getScheduler().complete(r, 200);
+        });
+    }
+
+    private static CompletableFuture<Void> enqueue(RequestDispatcher dispatcher, Tenant tenant, StringBuffer order) {
+        return dispatcher.reserve(Priority.NORMAL, tenant).thenAccept(r -> {
+            order.append(tenant.getName());
+            dispatcher.getScheduler().complete(r, 200);
+        });
+    }
+
+    @Test
+    void interactiveRequestJumpsQueuedBackgroundWork() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a"), 50), 0.0);
+        drainBurst(dispatcher, 50);
+        StringBuffer order = new StringBuffer();
+        CompletableFuture<?>[] all = new CompletableFuture<?>[6];
+        for (int i = 0; i < 5; i++) all[i] = enqueue(dispatcher, Priority.BACKGROUND, order);
+        all[5] = enqueue(dispatcher, Priority.INTERACTIVE, order);
+        assertEquals(5, dispatcher.getWaiting(Priority.BACKGROUND));
+
+        CompletableFuture.allOf(all).join();
+        assertEquals("IBBBBB", order.toString());
+    }
+
+    @Test
+    void backgroundKeepsItsShareWhileHigherLanesAreBusy() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a"), 50), 0.2);
+        drainBurst(dispatcher, 50);
+        StringBuffer order = new StringBuffer();
+        CompletableFuture<?>[] all = new CompletableFuture<?>[11];
+        for (int i = 0; i < 3; i++) all[i] = enqueue(dispatcher, Priority.BACKGROUND, order);
+        for (int i = 3; i < 11; i++) all[i] = enqueue(dispatcher, Priority.NORMAL, order);
+
+        CompletableFuture.allOf(all).join();
+        // one background grant per four others, the rest once the normal lane is empty
+        assertEquals("NNNNBNNNNBB", order.toString());
+    }
+
+    @Test
+    void tenantsShareContendedCapacityByWeight() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a"), 50));
+        drainBurst(dispatcher, 50);
+        Tenant heavy = Tenant.newBuilder("A").weight(2).build();
+        Tenant light = Tenant.newBuilder("B").build();
+        StringBuffer order = new StringBuffer();
+        CompletableFuture<?>[] all = new CompletableFuture<?>[12];
+        for (int i = 0; i < 6; i++) all[i] = enqueue(dispatcher, heavy, order);
+        for (int i = 6; i < 12; i++) all[i] = enqueue(dispatcher, light, order);
+        assertEquals(6, light.getWaitingCount());
+
+        CompletableFuture.allOf(all).join();
+        assertEquals("AABAABAABBBB", order.toString());
+        assertEquals(6, heavy.getGrantedCount());
+        assertEquals(6, light.getQueuedCount());
+        assertEquals(0, light.getWaitingCount());
+    }
+
+    @Test
+    void tenantOverQuotaDoesNotHoldUpOthers() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a"), 1000));
+        Tenant capped = Tenant.newBuilder("Q").quota(2).build();
+        Tenant other = Tenant.newBuilder("O").build();
+        StringBuffer order = new StringBuffer();
+        CompletableFuture<?>[] all = new CompletableFuture<?>[5];
+        for (int i = 0; i < 4; i++) all[i] = enqueue(dispatcher, capped, order);
+        assertEquals("QQ", order.toString(), "the quota's burst is granted at once");
+        all[4] = enqueue(dispatcher, other, order);
+
+        CompletableFuture.allOf(all).join();
+        assertEquals("QQOQQ", order.toString());
+        assertEquals(4, capped.getGrantedCount());
+        assertEquals(2, capped.getQueuedCount());
+        assertEquals(1, other.getGrantedCount());
+    }
+
+    @Test
+    void cappedTenantGetsItsQuotaUnderContendedKeys() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a"), 40));
+        drainBurst(dispatcher, 40);
+        Tenant capped = Tenant.newBuilder("Q").quota(10).build();
+        Tenant busy = Tenant.newBuilder("B").build();
+        StringBuffer order = new StringBuffer();
+        CompletableFuture<?>[] crawl = new CompletableFuture<?>[60];
+        for (int i = 0; i < crawl.length; i++) crawl[i] = enqueue(dispatcher, busy, order);
+        CompletableFuture<?>[] quota = new CompletableFuture<?>[20];
+        long start = System.nanoTime();
+        for (int i = 0; i < quota.length; i++) quota[i] = enqueue(dispatcher, capped, order);
+
+        CompletableFuture.allOf(quota).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        // a burst of 10, then 10 per second: the last of 20 goes out after about a second
+        assertTrue(seconds > 0.85 && seconds < 1.3, "20 capped grants took " + seconds + "s");
+        assertEquals(20, capped.getGrantedCount());
+        CompletableFuture.allOf(crawl).join();
+    }
+
+    @Test
+    void cancelledWaiterIsSkipped() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a"), 50));
+        drainBurst(dispatcher, 50);
+        CompletableFuture<TokenScheduler.Reservation> cancelled = dispatcher.reserve(Priority.INTERACTIVE);
+        CompletableFuture<TokenScheduler.Reservation> next = dispatcher.reserve(Priority.NORMAL);
+        assertTrue(cancelled.cancel(false));
+
+        TokenScheduler.Reservation r = next.join();
+        assertEquals("a", r.getToken());
+        assertEquals(0L, r.getDelayNanos());
+        assertEquals(0, dispatcher.getWaiting(Priority.INTERACTIVE));
+    }
+
+    @Test
+    void sparePermitIsRefusedWhileRequestsWaitOrQuotaIsUsed() {
+        RequestDispatcher dispatcher = new RequestDispatcher(new TokenScheduler(List.of("a", "b"), 50));
+        Tenant capped = Tenant.newBuilder("capped").quota(1).build();
+        Tenant other = Tenant.newBuilder("other").build();
+        TokenScheduler.Reservation first = dispatcher.reserve(Priority.NORMAL, capped).join();
+        assertNull(dispatcher.tryReserveSpare(capped, first), "quota already used");
+
+        CompletableFuture<TokenScheduler.Reservation> held = dispatcher.reserve(Priority.NORMAL, capped);
+        assertFalse(held.isDone());
+        assertNull(dispatcher.tryReserveSpare(other, first), "a request is waiting");
+
+        dispatcher.getScheduler().complete(held.join(), 200);
+        TokenScheduler.Reservation spare = dispatcher.tryReserveSpare(other, first);
+        assertNotNull(spare);
+        assertNotEquals(first.getToken(), spare.getToken());
+        assertEquals(1, other.getGrantedCount());
+    }
+
+    @Test
+    void rejectsInvalidShare() {
+        TokenScheduler scheduler = new TokenScheduler(List.of("a"), 10);
+        assertThrows(IllegalArgumentException.class, () -> new RequestDispatcher(scheduler, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new RequestDispatcher(scheduler, -0.1));
+    }
+}
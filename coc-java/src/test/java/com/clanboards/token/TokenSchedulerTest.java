@@ -0,0 +1,59 @@
+package com.clanboards.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenSchedulerTest {
+
+    @Test
+    void spreadsLoadEvenlyAcrossIdleKeys() {
+        TokenScheduler scheduler = new TokenScheduler(List.of("a", "b", "c"), 10);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            TokenScheduler.Reservation r = scheduler.reserve();
+            assertEquals(0L, r.getDelayNanos(), "30 permits fit in 3 keys x 10/s");
+            counts.merge(r.getToken(), 1, Integer::sum);
+            scheduler.complete(r, 200);
+        }
+        assertEquals(Map.of("a", 10, "b", 10, "c", 10), counts);
+    }
+
+    @Test
+    void penalisedKeyIsAvoided() {
+        TokenScheduler scheduler = new TokenScheduler(List.of("a", "b"), 10);
+        TokenScheduler.Reservation first = scheduler.reserve();
+        scheduler.complete(first, 429);
+        String penalised = first.getToken();
+        for (int i = 0; i < 9; i++) {
+            TokenScheduler.Reservation r = scheduler.reserve();
+            assertNotEquals(penalised, r.getToken());
+            assertEquals(0L, r.getDelayNanos());
+            scheduler.complete(r, 200);
+        }
+    }
+
+    @Test
+    void slowKeyWithRequestsInFlightIsAvoided() {
+        TokenScheduler scheduler = new TokenScheduler(List.of("a", "b"), 100);
+        TokenScheduler.Reservation stuck = scheduler.reserve();
+        // the stuck key scores one interval of backlog plus one in flight, so the
+        // other key wins until its own backlog catches up
+        for (int i = 0; i < 2; i++) {
+            TokenScheduler.Reservation r = scheduler.reserve();
+            assertNotEquals(stuck.getToken(), r.getToken(), "in-flight requests count against a key");
+            scheduler.complete(r, 200);
+        }
+        scheduler.complete(stuck, 200);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenScheduler(List.of(), 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenScheduler(List.of("a"), 0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.clanboards.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagCollectionsTest {
+    @Test
+    void tagMap_matchesHashMapUnderRandomChurn() {
+        Random rnd = new Random(42);
+        TagMap<String> map = new TagMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        for (int n = 0; n < 20_000; n++) {
+            long key = 1 + rnd.nextInt(3_000); // dense keys force long probe chains
+            if (rnd.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = "v" + n;
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 3_000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        Map<Long, String> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void tagIntMap_countsAndRemoves() {
+        TagIntMap counts = new TagIntMap(4);
+        assertTrue(counts.put("#2PP", 5000));
+        assertFalse(counts.put("2pp", 5100));
+        assertEquals(5100, counts.getOrDefault("#2PP", -1));
+        assertEquals(-1, counts.getOrDefault("#9UL2LJRJ", -1));
+        for (int i = 0; i < 1_000; i++) counts.addTo(1 + (i % 100), 1);
+        assertEquals(10, counts.getOrDefault(37, 0));
+        assertEquals(101, counts.size());
+        assertTrue(counts.remove(37));
+        assertFalse(counts.containsKey(37));
+        for (long key = 1; key <= 100; key++) {
+            if (key != 37) assertEquals(10, counts.getOrDefault(key, 0));
+        }
+    }
+
+    @Test
+    void tagSet_matchesHashSet_andRejectsZero() {
+        Random rnd = new Random(7);
+        TagSet set = new TagSet();
+        Set<Long> expected = new HashSet<>();
+        for (int n = 0; n < 10_000; n++) {
+            long key = 1 + rnd.nextInt(2_000);
+            if (rnd.nextBoolean()) assertEquals(expected.add(key), set.add(key));
+            else assertEquals(expected.remove(key), set.remove(key));
+        }
+        assertEquals(expected.size(), set.size());
+        for (long key : set.toArray()) assertTrue(expected.contains(key));
+        assertTrue(set.add("#2PP"));
+        assertTrue(set.contains(TagUtil.packTag("#2PP")));
+        assertThrows(IllegalArgumentException.class, () -> set.add(0L));
+        assertFalse(set.contains(0L));
+    }
+}
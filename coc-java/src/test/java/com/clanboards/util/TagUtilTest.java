@@ -0,0 +1,49 @@
+package com.clanboards.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagUtilTest {
+    @Test
+    void correctTag_normalisesInOnePass() {
+        assertEquals("#2PP", TagUtil.correctTag(" 2pp "));
+        assertEquals("#9UL2LJRJ", TagUtil.correctTag("9ul2ljrj"));
+        assertEquals("#2P00", TagUtil.correctTag("#2PO0"));
+        assertEquals("#ABC", TagUtil.correctTag("a-b_c!"));
+        assertEquals("#", TagUtil.correctTag("  "));
+        assertNull(TagUtil.correctTag(null));
+        assertEquals("", TagUtil.correctTag(""));
+    }
+
+    @Test
+    void correctTag_returnsSameInstanceWhenAlreadyCorrect() {
+        String tag = "#9UL2LJRJ";
+        assertSame(tag, TagUtil.correctTag(tag));
+    }
+
+    @Test
+    void correctTag_nonAsciiFallsBackToUnicodeUpperCase() {
+        // U+0131 (dotless i) upper-cases to 'I' and U+00E9 is dropped
+        assertEquals("#PIP", TagUtil.correctTag("pıpé"));
+    }
+
+    @Test
+    void packTag_roundTripsAndPreservesLeadingZeros() {
+        for (String tag : new String[]{"#0", "#00", "#2PP", "#9UL2LJRJ", "#0UVUVUVUVUVUVUV", "#VVVVVVVVVVVVVVVV"}) {
+            long packed = TagUtil.packTag(tag);
+            assertTrue(packed > 0);
+            assertEquals(tag, TagUtil.unpackTag(packed));
+        }
+        assertNotEquals(TagUtil.packTag("#0"), TagUtil.packTag("#00"));
+        assertEquals(TagUtil.packTag("#2PP"), TagUtil.packTag("2PP"));
+    }
+
+    @Test
+    void packTag_rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> TagUtil.packTag("#"));
+        assertThrows(IllegalArgumentException.class, () -> TagUtil.packTag("#2PA"));
+        assertThrows(IllegalArgumentException.class, () -> TagUtil.packTag("#00000000000000000"));
+        assertThrows(IllegalArgumentException.class, () -> TagUtil.unpackTag(0));
+    }
+}
@@ -0,0 +1,28 @@
+package com.clanboards.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XxHash64Test {
+    private static long hash(String s) {
+        return XxHash64.hash(s.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void matchesReferenceVectors() {
+        assertEquals(0xEF46DB3751D8E999L, hash(""));
+        assertEquals(0xD24EC4F1A98C6E5BL, hash("a"));
+        assertEquals(0x44BC2CF5AD770999L, hash("abc"));
+        assertEquals(0xFBCEA83C8A378BF1L, hash("Nobody inspects the spammish repetition"));
+    }
+
+    @Test
+    void hashesSubrangeIndependentlyOfSurroundingBytes() {
+        byte[] padded = "xxabcyy".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(hash("abc"), XxHash64.hash(padded, 2, 3, 0L));
+        assertThrows(IndexOutOfBoundsException.class, () -> XxHash64.hash(padded, 5, 3, 0L));
+    }
+}